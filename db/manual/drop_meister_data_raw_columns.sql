@@ -0,0 +1,5 @@
+-- 원본 HTML을 meister_raw_data 테이블로 옮긴 뒤 남은 컬럼
+-- ddl-auto로는 삭제되지 않으므로 새 버전을 배포한 뒤 한 번 직접 실행
+ALTER TABLE meister_data
+    DROP COLUMN score_raw_data,
+    DROP COLUMN point_raw_data;
@@ -0,0 +1,61 @@
+package bssm.bsm.domain.auth.facade;
+
+import bssm.bsm.domain.auth.domain.RefreshToken;
+import bssm.bsm.domain.auth.domain.repository.RefreshTokenRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenFacade {
+
+    private static final String REFRESH_TOKEN_CHANNEL = "refresh-token:expire";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 사용할 수 있는지 확인을 마친 리프레시 토큰 -> 유저 코드
+    private final Cache<String, Long> availableTokenCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    @PostConstruct
+    private void init() {
+        // 다른 서버에서 로그아웃된 토큰도 로컬 캐시에서 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> availableTokenCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(REFRESH_TOKEN_CHANNEL)
+        );
+    }
+
+    public Long findUserCodeOrNull(String refreshToken) {
+        Long userCode = availableTokenCache.getIfPresent(refreshToken);
+        if (userCode != null) return userCode;
+
+        userCode = refreshTokenRepository.findByTokenAndIsAvailable(refreshToken, true)
+                .map(RefreshToken::getUserCode)
+                .orElse(null);
+        if (userCode != null) {
+            availableTokenCache.put(refreshToken, userCode);
+        }
+        return userCode;
+    }
+
+    public void expireRefreshToken(String refreshToken) {
+        refreshTokenRepository.findById(refreshToken)
+                .ifPresent(token -> token.setAvailable(false));
+        availableTokenCache.invalidate(refreshToken);
+        redisTemplate.convertAndSend(REFRESH_TOKEN_CHANNEL, refreshToken);
+    }
+}
@@ -1,6 +1,6 @@
 package bssm.bsm.domain.auth.service;
 
-import bssm.bsm.domain.auth.domain.repository.RefreshTokenRepository;
+import bssm.bsm.domain.auth.facade.RefreshTokenFacade;
 import bssm.bsm.domain.auth.presentation.dto.res.AuthTokenRes;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.global.jwt.JwtProvider;
@@ -20,7 +20,7 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenFacade refreshTokenFacade;
     private final JwtProvider jwtProvider;
     private final CookieProvider cookieProvider;
 
@@ -57,11 +57,9 @@ public class AuthService {
     private void expireRefreshToken(Cookie refreshTokenCookie) {
         if (refreshTokenCookie == null) return;
 
-        try {
-            String refreshToken = jwtProvider.getRefreshToken(refreshTokenCookie.getValue());
-            refreshTokenRepository.findById(refreshToken)
-                    .ifPresent(token -> token.setAvailable(false));
-        } catch (Exception ignored) {}
+        String refreshToken = jwtProvider.getRefreshTokenOrNull(refreshTokenCookie.getValue());
+        if (refreshToken == null) return;
+        refreshTokenFacade.expireRefreshToken(refreshToken);
     }
 
 }
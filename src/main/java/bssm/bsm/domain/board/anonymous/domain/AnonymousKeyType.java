@@ -1,7 +0,0 @@
-package bssm.bsm.domain.board.anonymous.domain;
-
-public enum AnonymousKeyType {
-
-    POST,
-    COMMENT
-}
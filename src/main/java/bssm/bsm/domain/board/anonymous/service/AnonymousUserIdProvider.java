@@ -1,36 +1,49 @@
 package bssm.bsm.domain.board.anonymous.service;
 
-import bssm.bsm.domain.board.anonymous.domain.AnonymousKey;
-import bssm.bsm.domain.board.anonymous.domain.AnonymousKeyType;
+import bssm.bsm.domain.board.comment.domain.repository.CommentRepository;
+import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.domain.PostPk;
 import bssm.bsm.domain.user.domain.User;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class AnonymousUserIdProvider {
 
-    // key: user id -> value: anonymous user id
-    private final Map<AnonymousKey, Long> anonymousMap = new HashMap<>();
-    // key: key -> value: new anonymous user id (새로운 익명 id 발급 시 1씩 자동 증가)
-    private final Map<AnonymousKey, Long> anonymousIdMap = new HashMap<>();
-
-    public long getAnonymousId(AnonymousKeyType type, String sessionId, User user) {
-        AnonymousKey key = new AnonymousKey(type, sessionId, user.getCode());
-        Long id = Optional.ofNullable(anonymousMap.get(key))
-                .orElseGet(() -> getNewId(type, sessionId));
-        anonymousMap.put(key, id);
-        return id;
+    private final CommentRepository commentRepository;
+
+    // key: post -> value: (user code -> anonymous user id)
+    private final LoadingCache<PostPk, Map<Long, Long>> anonymousIdCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build(CacheLoader.from(this::loadAnonymousIdMap));
+
+    public long getAnonymousId(Post post, User user) {
+        Long id = anonymousIdCache.getUnchecked(post.getPk()).get(user.getCode());
+        if (id != null) return id;
+
+        // 캐시를 불러온 뒤에 처음 익명 댓글을 작성한 유저
+        anonymousIdCache.invalidate(post.getPk());
+        return anonymousIdCache.getUnchecked(post.getPk()).getOrDefault(user.getCode(), 0L);
     }
 
-    private long getNewId(AnonymousKeyType type, String sessionId) {
-        AnonymousKey idKey = new AnonymousKey(type, sessionId);
-        Long newId = Optional.ofNullable(anonymousIdMap.get(idKey))
-                .orElseGet(() -> 0L);
-        anonymousIdMap.put(idKey, ++newId);
-        return newId;
+    // 게시글에 처음 익명 댓글을 작성한 순서대로 1부터 익명 id 발급
+    private Map<Long, Long> loadAnonymousIdMap(PostPk postPk) {
+        List<Long> writerCodeList = commentRepository.findAnonymousWriterCodeList(postPk.getBoardId(), postPk.getId());
+        Map<Long, Long> anonymousIdMap = new HashMap<>();
+        for (int i = 0; i < writerCodeList.size(); i++) {
+            anonymousIdMap.put(writerCodeList.get(i), (long) i + 1);
+        }
+        return Map.copyOf(anonymousIdMap);
     }
 
 }
@@ -74,7 +74,7 @@ public class Board {
         this.accessibleRole = accessibleRole;
     }
 
-    public BoardRes toResponse(User nullableUser) {
+    public BoardRes toResponse(UserLevel nullableLevel) {
         BoardRes.BoardResBuilder builder = BoardRes.builder()
                 .boardId(id)
                 .boardName(name)
@@ -84,17 +84,16 @@ public class Board {
                         .map(PostCategory::toResponse)
                         .toList());
 
-        if (nullableUser == null) {
+        if (nullableLevel == null) {
             return builder
                     .postPermission(false)
                     .commentPermission(false)
                     .build();
         }
 
-        UserLevel level = nullableUser.getLevel();
         return builder
-                .postPermission(writePostLevel.getValue() <= level.getValue())
-                .commentPermission(writeCommentLevel.getValue() <= level.getValue())
+                .postPermission(writePostLevel.getValue() <= nullableLevel.getValue())
+                .commentPermission(writeCommentLevel.getValue() <= nullableLevel.getValue())
                 .build();
     }
 
@@ -0,0 +1,21 @@
+package bssm.bsm.domain.board.board.presentation;
+
+import bssm.bsm.domain.board.board.service.BoardAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("admin/board")
+@RequiredArgsConstructor
+public class BoardAdminController {
+
+    private final BoardAdminService boardAdminService;
+
+    @PutMapping("reload")
+    public void reloadBoard() {
+        boardAdminService.reloadBoard();
+    }
+
+}
@@ -0,0 +1,17 @@
+package bssm.bsm.domain.board.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BoardAdminService {
+
+    private final BoardProvider boardProvider;
+
+    public void reloadBoard() {
+        boardProvider.reload();
+        boardProvider.publishReload();
+    }
+
+}
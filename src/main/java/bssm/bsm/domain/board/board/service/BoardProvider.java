@@ -3,29 +3,99 @@ package bssm.bsm.domain.board.board.service;
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.board.domain.repository.BoardRepository;
 import bssm.bsm.domain.board.board.exception.NoSuchBoardException;
+import bssm.bsm.domain.board.board.presentation.dto.res.BoardRes;
+import bssm.bsm.domain.board.category.service.CategoryProvider;
+import bssm.bsm.domain.user.domain.User;
+import bssm.bsm.domain.user.domain.type.UserLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class BoardProvider {
 
-    private final HashMap<String, Board> boardList = new HashMap<>();
+    private static final String BOARD_RELOAD_CHANNEL = "board:reload";
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
     private final BoardRepository boardRepository;
+    private final CategoryProvider categoryProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 새로 불러올 때마다 통째로 교체하므로 읽을 때는 동기화가 필요 없음
+    private volatile Map<String, BoardEntry> boardMap = Map.of();
 
     @PostConstruct
     public void init() {
+        loadBoard();
+        // 직접 보낸 알림은 이미 반영했으므로 무시
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    if (!INSTANCE_ID.equals(new String(message.getBody(), StandardCharsets.UTF_8))) reload();
+                },
+                new ChannelTopic(BOARD_RELOAD_CHANNEL)
+        );
+    }
+
+    public void reload() {
+        categoryProvider.reload();
+        loadBoard();
+    }
+
+    // 다른 서버에도 게시판 목록을 다시 불러오도록 알림
+    public void publishReload() {
+        redisTemplate.convertAndSend(BOARD_RELOAD_CHANNEL, INSTANCE_ID);
+    }
+
+    private void loadBoard() {
+        Map<String, BoardEntry> newBoardMap = new HashMap<>();
         boardRepository.findAll()
-                .forEach(board -> boardList.put(board.getId(), board));
+                .forEach(board -> newBoardMap.put(board.getId(), BoardEntry.create(board)));
+        boardMap = Map.copyOf(newBoardMap);
     }
 
     public Board findBoard(String id) {
-        Board board = boardList.get(id);
-        if (board == null) throw new NoSuchBoardException();
-        return board;
+        return findBoardEntry(id).board();
+    }
+
+    public BoardRes findBoardRes(String id, User nullableUser) {
+        BoardEntry boardEntry = findBoardEntry(id);
+        if (nullableUser == null) return boardEntry.anonymousRes();
+        return boardEntry.resMap().get(nullableUser.getLevel());
+    }
+
+    public Collection<Board> findAllBoard() {
+        return boardMap.values().stream()
+                .map(BoardEntry::board)
+                .toList();
+    }
+
+    private BoardEntry findBoardEntry(String id) {
+        BoardEntry boardEntry = boardMap.get(id);
+        if (boardEntry == null) throw new NoSuchBoardException();
+        return boardEntry;
+    }
+
+    private record BoardEntry(Board board, BoardRes anonymousRes, Map<UserLevel, BoardRes> resMap) {
+
+        static BoardEntry create(Board board) {
+            Map<UserLevel, BoardRes> resMap = new EnumMap<>(UserLevel.class);
+            Arrays.stream(UserLevel.values())
+                    .forEach(level -> resMap.put(level, board.toResponse(level)));
+            return new BoardEntry(board, board.toResponse(null), resMap);
+        }
     }
 
 }
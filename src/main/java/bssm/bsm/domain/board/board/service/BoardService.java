@@ -16,7 +16,7 @@ public class BoardService {
         Board board = boardUtil.findBoard(boardId);
         board.checkAccessibleRole(nullableUser);
 
-        return board.toResponse(nullableUser);
+        return boardUtil.findBoardRes(boardId, nullableUser);
     }
 
 }
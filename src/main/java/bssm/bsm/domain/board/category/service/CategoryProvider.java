@@ -11,25 +11,34 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
 import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryProvider {
 
-    private final HashMap<PostCategoryPk, PostCategory> categoryList = new HashMap<>();
     private final PostCategoryRepository postCategoryRepository;
 
+    // 새로 불러올 때마다 통째로 교체하므로 읽을 때는 동기화가 필요 없음
+    private volatile Map<PostCategoryPk, PostCategory> categoryMap = Map.of();
+
     @PostConstruct
     public void init() {
+        reload();
+    }
+
+    public void reload() {
+        Map<PostCategoryPk, PostCategory> newCategoryMap = new HashMap<>();
         postCategoryRepository.findAll()
-                .forEach(category -> categoryList.put(category.getPk(), category));
+                .forEach(category -> newCategoryMap.put(category.getPk(), category));
+        categoryMap = Map.copyOf(newCategoryMap);
     }
 
     public PostCategory findCategory(String id, Board board) {
         if (id.equals("normal")) return null;
 
-        PostCategory category = categoryList.get(new PostCategoryPk(id, board.getId()));
+        PostCategory category = categoryMap.get(new PostCategoryPk(id, board.getId()));
         if (category == null) throw new NoSuchCategoryException();
         return category;
     }
@@ -0,0 +1,48 @@
+package bssm.bsm.domain.board.comment.domain;
+
+import bssm.bsm.domain.user.domain.User;
+import bssm.bsm.domain.user.domain.type.UserLevel;
+import bssm.bsm.domain.user.presentation.dto.res.UserRes;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+// 여러 요청이 같이 읽는 캐시이므로 보는 사람과 상관없는 값만 담고 생성 후에는 바뀌지 않음
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentNode {
+
+    private final long id;
+    private final Long writerCode;
+    private final boolean delete;
+    private final String content;
+    private final Date createdAt;
+    private final int depth;
+    private final UserRes user;
+    private final List<CommentNode> childNodes;
+
+    public static CommentNode create(Comment comment, UserRes user, List<CommentNode> childNodes) {
+        return new CommentNode(
+                comment.getPk().getId(),
+                comment.getWriter().getCode(),
+                comment.isDelete(),
+                comment.getContent(),
+                comment.getCreatedAt() == null ? null : new Date(comment.getCreatedAt().getTime()),
+                comment.getDepth(),
+                user,
+                List.copyOf(childNodes)
+        );
+    }
+
+    public Date getCreatedAt() {
+        return createdAt == null ? null : new Date(createdAt.getTime());
+    }
+
+    public boolean checkPermission(User user) {
+        return Objects.equals(writerCode, user.getCode()) || user.getLevel() == UserLevel.ADMIN;
+    }
+}
@@ -3,7 +3,6 @@ package bssm.bsm.domain.board.comment.domain.repository;
 import bssm.bsm.domain.board.comment.domain.Comment;
 import bssm.bsm.domain.board.comment.domain.CommentPk;
 import bssm.bsm.domain.board.post.domain.Post;
-import bssm.bsm.domain.board.post.domain.PostPk;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,11 +13,17 @@ import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, CommentPk> {
 
-    @EntityGraph(attributePaths = {"childComments", "writer"})
-    List<Comment> findAllByPostAndParentIdIsNullOrderByPkId(Post post);
+    @EntityGraph(attributePaths = "writer")
+    List<Comment> findAllByPkBoardIdAndPkPostIdOrderByPkId(String boardId, long postId);
 
     Optional<Comment> findByPkIdAndPost(long id, Post post);
 
-    @Query(value = "SELECT COUNT(c) FROM Comment c WHERE c.post = :post")
-    long countByPost(@Param("post") Post post);
+    @Query(value = "SELECT COALESCE(MAX(c.pk.id), 0) FROM Comment c WHERE c.post = :post")
+    long findLastCommentId(@Param("post") Post post);
+
+    @Query(value = "SELECT c.writer.code FROM Comment c " +
+            "WHERE c.pk.boardId = :boardId AND c.pk.postId = :postId AND c.anonymous = true " +
+            "GROUP BY c.writer.code " +
+            "ORDER BY MIN(c.pk.id)")
+    List<Long> findAnonymousWriterCodeList(@Param("boardId") String boardId, @Param("postId") long postId);
 }
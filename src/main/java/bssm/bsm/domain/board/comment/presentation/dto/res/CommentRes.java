@@ -1,7 +1,6 @@
 package bssm.bsm.domain.board.comment.presentation.dto.res;
 
-import bssm.bsm.domain.board.anonymous.service.AnonymousUserIdProvider;
-import bssm.bsm.domain.board.comment.domain.Comment;
+import bssm.bsm.domain.board.comment.domain.CommentNode;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.user.presentation.dto.res.UserRes;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -25,41 +24,40 @@ public class CommentRes {
     private int depth;
     private List<CommentRes> child;
 
-    public static CommentRes create(User nullableUser, Comment comment, AnonymousUserIdProvider anonymousUserIdProvider) {
-        if (comment.isDelete()) {
-            return createDeletedComment(nullableUser, comment, anonymousUserIdProvider);
+    public static CommentRes create(User nullableUser, CommentNode node) {
+        if (node.isDelete()) {
+            return createDeletedComment(nullableUser, node);
         }
-        return createNormalComment(nullableUser, comment, anonymousUserIdProvider);
+        return createNormalComment(nullableUser, node);
     }
 
-    public static CommentRes createNormalComment(User nullableUser, Comment comment, AnonymousUserIdProvider anonymousUserIdProvider) {
+    public static CommentRes createNormalComment(User nullableUser, CommentNode node) {
         CommentRes res = new CommentRes();
-        res.id = comment.getPk().getId();
-        res.user = UserRes.create(comment, anonymousUserIdProvider);
+        res.id = node.getId();
+        res.user = node.getUser();
         res.isDelete = false;
-        res.content = comment.getContent();
-        res.createdAt = comment.getCreatedAt();
-        res.permission = nullableUser != null && comment.checkPermission(nullableUser);
-        res.depth = comment.getDepth();
-        if (!comment.getChildComments().isEmpty()) {
-            res.child = comment.getChildComments().stream()
-                    .map(childComment -> create(nullableUser, childComment, anonymousUserIdProvider))
-                    .toList();
-        }
+        res.content = node.getContent();
+        res.createdAt = node.getCreatedAt();
+        res.permission = nullableUser != null && node.checkPermission(nullableUser);
+        res.depth = node.getDepth();
+        res.child = createChildComments(nullableUser, node);
         return res;
     }
 
-    public static CommentRes createDeletedComment(User nullableUser, Comment comment, AnonymousUserIdProvider anonymousUserIdProvider) {
+    public static CommentRes createDeletedComment(User nullableUser, CommentNode node) {
         CommentRes res = new CommentRes();
-        res.id = comment.getPk().getId();
+        res.id = node.getId();
         res.isDelete = true;
-        res.depth = comment.getDepth();
+        res.depth = node.getDepth();
         res.permission = false;
-        if (!comment.getChildComments().isEmpty()) {
-            res.child = comment.getChildComments().stream()
-                    .map(childComment -> create(nullableUser, childComment, anonymousUserIdProvider))
-                    .toList();
-        }
+        res.child = createChildComments(nullableUser, node);
         return res;
     }
+
+    private static List<CommentRes> createChildComments(User nullableUser, CommentNode node) {
+        if (node.getChildNodes().isEmpty()) return null;
+        return node.getChildNodes().stream()
+                .map(childNode -> create(nullableUser, childNode))
+                .toList();
+    }
 }
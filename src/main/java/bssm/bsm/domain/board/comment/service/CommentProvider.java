@@ -1,31 +1,115 @@
 package bssm.bsm.domain.board.comment.service;
 
+import bssm.bsm.domain.board.anonymous.service.AnonymousUserIdProvider;
 import bssm.bsm.domain.board.comment.domain.Comment;
+import bssm.bsm.domain.board.comment.domain.CommentNode;
 import bssm.bsm.domain.board.comment.domain.repository.CommentRepository;
 import bssm.bsm.domain.board.comment.exception.NoSuchCommentException;
 import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.domain.PostPk;
+import bssm.bsm.domain.user.presentation.dto.res.UserRes;
+import bssm.bsm.global.sequence.SequenceProvider;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CommentProvider {
 
+    // 게시글마다 생기는 시퀀스라 오래 쓰지 않으면 Redis에서 제거
+    private static final Duration SEQUENCE_TTL = Duration.ofDays(1);
+    private static final String COMMENT_TREE_CHANNEL = "comment-tree:invalidate";
+
     private final CommentRepository commentRepository;
+    private final SequenceProvider sequenceProvider;
+    private final AnonymousUserIdProvider anonymousUserIdProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // key: post -> value: 최상위 댓글부터 구성된 댓글 트리
+    private final LoadingCache<PostPk, List<CommentNode>> commentTreeCache = CacheBuilder.newBuilder()
+            .maximumSize(500)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build(CacheLoader.from(this::loadCommentTree));
+
+    @PostConstruct
+    private void init() {
+        // 다른 서버에서 댓글이 바뀌면 로컬 캐시에서 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    String[] key = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+                    commentTreeCache.invalidate(PostPk.create(Long.parseLong(key[1]), key[0]));
+                },
+                new ChannelTopic(COMMENT_TREE_CHANNEL)
+        );
+    }
 
     public Comment findComment(Post post, long id) {
         return commentRepository.findByPkIdAndPost(id, post)
                 .orElseThrow(NoSuchCommentException::new);
     }
 
-    public List<Comment> findCommentTree(Post post) {
-        return commentRepository.findAllByPostAndParentIdIsNullOrderByPkId(post);
+    public List<CommentNode> findCommentTree(Post post) {
+        return commentTreeCache.getUnchecked(post.getPk());
+    }
+
+    // 커밋 전에 다른 요청이 이전 댓글 트리를 다시 캐시하지 않도록 커밋 후에 제거
+    public void evictCommentTree(Post post) {
+        PostPk pk = post.getPk();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commentTreeCache.invalidate(pk);
+                redisTemplate.convertAndSend(COMMENT_TREE_CHANNEL, pk.getBoardId() + ":" + pk.getId());
+            }
+        });
     }
 
     public long getNewCommentId(Post post) {
-        return commentRepository.countByPost(post) + 1;
+        String sequenceName = "comment:" + post.getPk().getBoardId() + ":" + post.getPk().getId();
+        return sequenceProvider.next(sequenceName, SEQUENCE_TTL, () -> commentRepository.findLastCommentId(post));
+    }
+
+    // 게시글의 모든 댓글을 한 번에 조회한 뒤 부모별로 묶어서 트리를 구성
+    private List<CommentNode> loadCommentTree(PostPk postPk) {
+        List<Comment> commentList = commentRepository.findAllByPkBoardIdAndPkPostIdOrderByPkId(postPk.getBoardId(), postPk.getId());
+        Map<Long, List<Comment>> childCommentMap = new HashMap<>();
+        List<Comment> rootCommentList = new ArrayList<>();
+
+        for (Comment comment : commentList) {
+            if (comment.getParentId() == null) {
+                rootCommentList.add(comment);
+                continue;
+            }
+            childCommentMap.computeIfAbsent(comment.getParentId(), parentId -> new ArrayList<>()).add(comment);
+        }
+        return createCommentNodeList(rootCommentList, childCommentMap);
+    }
+
+    private List<CommentNode> createCommentNodeList(List<Comment> commentList, Map<Long, List<Comment>> childCommentMap) {
+        return commentList.stream()
+                .map(comment -> CommentNode.create(
+                        comment,
+                        comment.isDelete() ? null : UserRes.create(comment, anonymousUserIdProvider),
+                        createCommentNodeList(childCommentMap.getOrDefault(comment.getPk().getId(), List.of()), childCommentMap)
+                ))
+                .toList();
     }
 
 }
@@ -1,6 +1,5 @@
 package bssm.bsm.domain.board.comment.service;
 
-import bssm.bsm.domain.board.anonymous.service.AnonymousUserIdProvider;
 import bssm.bsm.domain.board.comment.exception.DoNotHavePermissionToDeleteCommentException;
 import bssm.bsm.domain.board.comment.exception.DoNotHavePermissionToWriteCommentOnBoardException;
 import bssm.bsm.domain.board.comment.exception.NoSuchCommentException;
@@ -12,6 +11,7 @@ import bssm.bsm.domain.board.comment.domain.Comment;
 import bssm.bsm.domain.board.comment.domain.repository.CommentRepository;
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.domain.repository.PostRepository;
 import bssm.bsm.domain.board.board.service.BoardProvider;
 import bssm.bsm.domain.board.post.service.PostProvider;
 import bssm.bsm.domain.user.domain.User;
@@ -33,9 +33,9 @@ public class CommentService {
     private final CommentProvider commentProvider;
     private final BoardProvider boardProvider;
     private final PostProvider postProvider;
-    private final AnonymousUserIdProvider anonymousUserIdProvider;
 
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
 
     @Transactional
     public void writeComment(User user, @Valid WriteCommentReq req) {
@@ -60,7 +60,8 @@ public class CommentService {
                 req.getContent(),
                 req.isAnonymous());
         commentRepository.save(newComment);
-        post.increaseTotalComments();
+        commentProvider.evictCommentTree(post);
+        postRepository.increaseTotalComments(post.getPk().getId(), post.getPk().getBoardId(), 1);
     }
 
     @Transactional
@@ -72,7 +73,8 @@ public class CommentService {
         checkCommentDeletable(comment, user);
 
         comment.delete();
-        post.decreaseTotalComments();
+        commentProvider.evictCommentTree(post);
+        postRepository.increaseTotalComments(post.getPk().getId(), post.getPk().getBoardId(), -1);
     }
 
     public List<CommentRes> viewCommentTree(User nullableUser, FindCommentTreeReq req) {
@@ -81,7 +83,7 @@ public class CommentService {
         Post post = postProvider.findPost(board, req.getPostId());
 
         return commentProvider.findCommentTree(post).stream()
-                .map(comment -> CommentRes.create(nullableUser, comment, anonymousUserIdProvider))
+                .map(node -> CommentRes.create(nullableUser, node))
                 .toList();
     }
 
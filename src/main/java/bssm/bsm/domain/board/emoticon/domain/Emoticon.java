@@ -74,10 +74,6 @@ public class Emoticon extends BaseTimeEntity {
         this.deleteReason = deleteReason;
     }
 
-    public void incrementTotalView() {
-        this.totalView++;
-    }
-
     public EmoticonRes toResponse() {
         return EmoticonRes.builder()
                 .id(id)
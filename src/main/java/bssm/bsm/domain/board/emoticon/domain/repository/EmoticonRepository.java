@@ -3,6 +3,10 @@ package bssm.bsm.domain.board.emoticon.domain.repository;
 import bssm.bsm.domain.board.emoticon.domain.Emoticon;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -12,4 +16,9 @@ public interface EmoticonRepository extends JpaRepository<Emoticon, Long> {
 
     @EntityGraph(attributePaths = "items")
     List<Emoticon> findAllByActiveAndDeletedOrderByTotalViewDesc(boolean active, boolean deleted);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Emoticon e SET e.totalView = e.totalView + :view WHERE e.id = :id")
+    void increaseTotalView(@Param("id") long id, @Param("view") long view);
 }
@@ -15,11 +15,11 @@ import java.util.List;
 public class EmoticonService {
 
     private final EmoticonProvider emoticonProvider;
+    private final EmoticonViewCounter emoticonViewCounter;
 
-    @Transactional
     public List<EmoticonItemRes> getEmoticon(long id) {
         Emoticon emoticon = emoticonProvider.findEmoticon(id);
-        emoticon.incrementTotalView();
+        emoticonViewCounter.increaseView(emoticon);
 
         return emoticon.getItems().stream()
                 .map(EmoticonItemRes::create)
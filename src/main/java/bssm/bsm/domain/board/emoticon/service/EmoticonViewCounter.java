@@ -0,0 +1,34 @@
+package bssm.bsm.domain.board.emoticon.service;
+
+import bssm.bsm.domain.board.emoticon.domain.Emoticon;
+import bssm.bsm.domain.board.emoticon.domain.repository.EmoticonRepository;
+import bssm.bsm.global.counter.CountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PreDestroy;
+
+@Component
+@RequiredArgsConstructor
+public class EmoticonViewCounter {
+
+    private final EmoticonRepository emoticonRepository;
+    private final CountBuffer<Long> viewBuffer = new CountBuffer<>();
+
+    public void increaseView(Emoticon emoticon) {
+        viewBuffer.increase(emoticon.getId());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        viewBuffer.flush(emoticonRepository::increaseTotalView);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,13 @@
+package bssm.bsm.domain.board.like.domain;
+
+import bssm.bsm.domain.board.like.domain.enums.Like;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MyLike {
+
+    private Long postId;
+    private Like like;
+}
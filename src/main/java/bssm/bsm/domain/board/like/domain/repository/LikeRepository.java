@@ -1,5 +1,6 @@
 package bssm.bsm.domain.board.like.domain.repository;
 
+import bssm.bsm.domain.board.like.domain.MyLike;
 import bssm.bsm.domain.board.like.domain.PostLike;
 import bssm.bsm.domain.board.like.domain.PostLikePk;
 import bssm.bsm.domain.board.post.domain.Post;
@@ -8,12 +9,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<PostLike, PostLikePk> {
 
-    @Query(value = "SELECT COUNT(l) FROM PostLike l WHERE l.post = post")
-    long countByPost(@Param("post")Post post);
+    @Query(value = "SELECT COALESCE(MAX(l.pk.id), 0) FROM PostLike l WHERE l.post = :post")
+    long findLastLikeId(@Param("post") Post post);
 
     Optional<PostLike> findByPostAndUser(Post post, User user);
+
+    @Query(value = "SELECT new bssm.bsm.domain.board.like.domain.MyLike(l.pk.postId, l.like) FROM PostLike l " +
+            "WHERE l.user.code = :userCode AND l.pk.boardId = :boardId AND l.pk.postId IN :postIdList")
+    List<MyLike> findMyLikeList(@Param("userCode") long userCode, @Param("boardId") String boardId, @Param("postIdList") Collection<Long> postIdList);
 }
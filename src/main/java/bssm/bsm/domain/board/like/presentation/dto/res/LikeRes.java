@@ -1,7 +1,6 @@
 package bssm.bsm.domain.board.like.presentation.dto.res;
 
 import bssm.bsm.domain.board.like.domain.enums.Like;
-import bssm.bsm.domain.board.post.domain.Post;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,10 +11,10 @@ public class LikeRes {
     private int like;
     private int totalLikes;
 
-    public static LikeRes create(Like like, Post post) {
+    public static LikeRes create(Like like, int totalLikes) {
         LikeRes likeRes = new LikeRes();
         likeRes.like = like.getValue();
-        likeRes.totalLikes = post.getTotalLikes();
+        likeRes.totalLikes = totalLikes;
         return likeRes;
     }
 }
@@ -1,26 +1,58 @@
 package bssm.bsm.domain.board.like.service;
 
 import bssm.bsm.domain.board.like.domain.PostLike;
+import bssm.bsm.domain.board.like.domain.enums.Like;
 import bssm.bsm.domain.board.like.domain.repository.LikeRepository;
 import bssm.bsm.domain.board.post.domain.Post;
 import bssm.bsm.domain.user.domain.User;
+import bssm.bsm.global.sequence.SequenceProvider;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class LikeProvider {
 
+    private static final Duration SEQUENCE_TTL = Duration.ofDays(1);
+    private static final String MY_LIKE_CHANNEL = "my-like:invalidate";
+
     private final LikeRepository likeRepository;
+    private final SequenceProvider sequenceProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
 
-    public PostLike findMyPostLike(Optional<User> user, Post post) {
-        if (user.isEmpty()) {
-            return null;
-        }
-        return likeRepository.findByPostAndUser(post, user.get())
-                .orElse(null);
+    // 유저가 누른 좋아요 상태, 누르지 않은 게시글은 NONE으로 저장
+    private final Cache<MyLikeKey, Like> myLikeCache = CacheBuilder.newBuilder()
+            .maximumSize(100000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    private void init() {
+        // 다른 서버에서 좋아요를 누르면 로컬 캐시에서 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    String[] key = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+                    myLikeCache.invalidate(new MyLikeKey(Long.parseLong(key[0]), key[1], Long.parseLong(key[2])));
+                },
+                new ChannelTopic(MY_LIKE_CHANNEL)
+        );
     }
 
     public PostLike findMyPostLike(User user, Post post) {
@@ -28,8 +60,54 @@ public class LikeProvider {
                 .orElse(null);
     }
 
+    public Like findMyLike(User nullableUser, Post post) {
+        long postId = post.getPk().getId();
+        return findMyLikeMap(nullableUser, post.getPk().getBoardId(), List.of(postId))
+                .getOrDefault(postId, Like.NONE);
+    }
+
+    // 캐시에 없는 게시글의 좋아요 상태는 한 번의 IN 쿼리로 조회
+    public Map<Long, Like> findMyLikeMap(User nullableUser, String boardId, Collection<Long> postIdList) {
+        Map<Long, Like> myLikeMap = new HashMap<>();
+        if (nullableUser == null) return myLikeMap;
+
+        long userCode = nullableUser.getCode();
+        List<Long> missingPostIdList = new ArrayList<>();
+        postIdList.forEach(postId -> {
+            Like like = myLikeCache.getIfPresent(new MyLikeKey(userCode, boardId, postId));
+            if (like == null) {
+                missingPostIdList.add(postId);
+            } else {
+                myLikeMap.put(postId, like);
+            }
+        });
+        if (missingPostIdList.isEmpty()) return myLikeMap;
+
+        missingPostIdList.forEach(postId -> myLikeMap.put(postId, Like.NONE));
+        likeRepository.findMyLikeList(userCode, boardId, missingPostIdList)
+                .forEach(myLike -> myLikeMap.put(myLike.getPostId(), myLike.getLike()));
+        missingPostIdList.forEach(postId ->
+                myLikeCache.put(new MyLikeKey(userCode, boardId, postId), myLikeMap.get(postId)));
+        return myLikeMap;
+    }
+
+    // 커밋 전에 다른 요청이 이전 상태를 다시 캐시하지 않도록 커밋 후에 제거
+    public void evictMyLike(User user, Post post) {
+        MyLikeKey key = new MyLikeKey(user.getCode(), post.getPk().getBoardId(), post.getPk().getId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                myLikeCache.invalidate(key);
+                redisTemplate.convertAndSend(MY_LIKE_CHANNEL, key.userCode() + ":" + key.boardId() + ":" + key.postId());
+            }
+        });
+    }
+
     public long getNewLikeId(Post post) {
-        return likeRepository.countByPost(post) + 1;
+        String sequenceName = "like:" + post.getPk().getBoardId() + ":" + post.getPk().getId();
+        return sequenceProvider.next(sequenceName, SEQUENCE_TTL, () -> likeRepository.findLastLikeId(post));
     }
 
+    private record MyLikeKey(long userCode, String boardId, long postId) {}
+
 }
@@ -7,6 +7,7 @@ import bssm.bsm.domain.board.like.domain.PostLike;
 import bssm.bsm.domain.board.like.domain.repository.LikeRepository;
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.domain.repository.PostRepository;
 import bssm.bsm.domain.board.board.service.BoardProvider;
 import bssm.bsm.domain.board.post.service.PostProvider;
 import bssm.bsm.domain.user.domain.User;
@@ -26,6 +27,7 @@ public class LikeService {
     private final PostProvider postProvider;
 
     private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
 
     public LikeRes like(User user, LikeReq req) {
         Board board = boardProvider.findBoard(req.getBoardId());
@@ -35,40 +37,33 @@ public class LikeService {
         PostLike prevLike = likeProvider.findMyPostLike(user, post);
 
         // 좋아요 또는 싫어요를 누른 적이 없으면
+        int delta;
         if (prevLike == null) {
-            saveNewLike(like, post, user);
+            delta = saveNewLike(like, post, user);
         } else {
-            updatePrevLike(prevLike, post, like);
+            delta = updatePrevLike(prevLike, like);
         }
-        return LikeRes.create(like, post);
+        likeProvider.evictMyLike(user, post);
+        if (delta != 0) {
+            postRepository.increaseTotalLikes(post.getPk().getId(), post.getPk().getBoardId(), delta);
+        }
+        return LikeRes.create(like, post.getTotalLikes() + delta);
     }
 
-    private void saveNewLike(Like like, Post post, User user) {
+    private int saveNewLike(Like like, Post post, User user) {
         PostLike newLike = PostLike.create(likeProvider.getNewLikeId(post), post, user, like);
         likeRepository.save(newLike);
-        if (like == Like.LIKE) post.applyPostLike();
-        if (like == Like.DISLIKE) post.applyPostDislike();
+        return like.getValue();
     }
 
-    private void updatePrevLike(PostLike prevLike, Post post, Like like) {
+    private int updatePrevLike(PostLike prevLike, Like like) {
         // 좋아요 또는 싫어요를 한번 더 눌렀으면
         if (prevLike.getLike() == like) {
-            return;
-        }
-        // 취소한 좋아요 또는 싫어요를 다시 누름
-        if (prevLike.getLike() == Like.NONE && like != Like.NONE) {
-            if (like == Like.LIKE) post.applyPostLike();
-            if (like == Like.DISLIKE) post.applyPostDislike();
-        }
-        // 좋아요 또는 싫어요 취소
-        if (like == Like.NONE && prevLike.getLike() != like) {
-            post.cancelPostLike(prevLike.getLike());
+            return 0;
         }
-        // 좋아요에서 싫어요 또는 싫어요에서 좋아요
-        if (prevLike.getLike() != like && like != Like.NONE) {
-            post.reservePostLike(prevLike.getLike());
-        }
-
+        // 취소, 재선택, 좋아요와 싫어요 전환 모두 값의 차이만큼 반영
+        int delta = like.getValue() - prevLike.getLike().getValue();
         prevLike.updateLike(like);
+        return delta;
     }
 }
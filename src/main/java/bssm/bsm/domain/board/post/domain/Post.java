@@ -2,7 +2,6 @@ package bssm.bsm.domain.board.post.domain;
 
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.category.domain.PostCategory;
-import bssm.bsm.domain.board.like.domain.enums.Like;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.user.domain.type.UserLevel;
 import lombok.AccessLevel;
@@ -16,10 +15,12 @@ import org.springframework.data.annotation.CreatedDate;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinColumns;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapsId;
+import javax.persistence.Table;
 import java.util.Date;
 import java.util.Objects;
 
@@ -28,6 +29,7 @@ import java.util.Objects;
 @DynamicInsert
 @DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_list", columnList = "board_id, isDelete, category_id, id DESC"))
 public class Post {
 
     @EmbeddedId
@@ -114,34 +116,6 @@ public class Post {
         this.delete = true;
     }
 
-    public void increaseTotalViews() {
-        this.view++;
-    }
-
-    public void increaseTotalComments() {
-        this.totalComments++;
-    }
-
-    public void decreaseTotalComments() {
-        this.totalComments--;
-    }
-
-    public void applyPostLike() {
-        this.totalLikes++;
-    }
-
-    public void applyPostDislike() {
-        this.totalLikes--;
-    }
-
-    public void cancelPostLike(Like prevLike) {
-        this.totalLikes -= prevLike.getValue();
-    }
-
-    public void reservePostLike(Like prevLike) {
-        this.totalLikes -= (prevLike.getValue() * 2);
-    }
-
     public boolean checkPermission(User user) {
         return Objects.equals(writer.getCode(), user.getCode()) || user.getLevel() == UserLevel.ADMIN;
     }
@@ -24,9 +24,13 @@ public class PostPk implements Serializable {
     private String boardId;
 
     public static PostPk create(long id, Board board) {
+        return create(id, board.getId());
+    }
+
+    public static PostPk create(long id, String boardId) {
         PostPk postPk = new PostPk();
         postPk.id = id;
-        postPk.boardId = board.getId();
+        postPk.boardId = boardId;
         return postPk;
     }
 }
@@ -1,11 +1,12 @@
 package bssm.bsm.domain.board.post.domain.repository;
 
-import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.post.domain.Post;
 import bssm.bsm.domain.board.post.domain.PostPk;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,6 +14,39 @@ public interface PostRepository extends JpaRepository<Post, PostPk>, PostReposit
 
     Optional<Post> findByPkAndDelete(PostPk pk, boolean delete);
 
-    @Query(value = "SELECT COUNT(p) FROM Post p WHERE p.board = :board")
-    long countByBoard(@Param("board") Board board);
+    @Query(value = "SELECT COALESCE(MAX(p.pk.id), 0) FROM Post p WHERE p.pk.boardId = :boardId")
+    long findLastPostId(@Param("boardId") String boardId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.view = p.view + :view WHERE p.pk.id = :id AND p.pk.boardId = :boardId")
+    void increaseView(@Param("id") long id, @Param("boardId") String boardId, @Param("view") int view);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.totalLikes = p.totalLikes + :delta WHERE p.pk.id = :id AND p.pk.boardId = :boardId")
+    void increaseTotalLikes(@Param("id") long id, @Param("boardId") String boardId, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.totalComments = p.totalComments + :delta WHERE p.pk.id = :id AND p.pk.boardId = :boardId")
+    void increaseTotalComments(@Param("id") long id, @Param("boardId") String boardId, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE post p " +
+            "LEFT JOIN (SELECT board_id, post_id, SUM(is_like) AS total FROM post_like GROUP BY board_id, post_id) l " +
+            "ON l.board_id = p.board_id AND l.post_id = p.id " +
+            "SET p.total_likes = COALESCE(l.total, 0) " +
+            "WHERE p.total_likes <> COALESCE(l.total, 0)")
+    int reconcileTotalLikes();
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE post p " +
+            "LEFT JOIN (SELECT board_id, post_id, COUNT(*) AS total FROM comment WHERE is_delete = 0 GROUP BY board_id, post_id) c " +
+            "ON c.board_id = p.board_id AND c.post_id = p.id " +
+            "SET p.total_comments = COALESCE(c.total, 0) " +
+            "WHERE p.total_comments <> COALESCE(c.total, 0)")
+    int reconcileTotalComments();
 }
\ No newline at end of file
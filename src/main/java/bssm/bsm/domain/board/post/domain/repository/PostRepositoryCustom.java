@@ -1,11 +1,13 @@
 package bssm.bsm.domain.board.post.domain.repository;
 
 import bssm.bsm.domain.board.board.domain.Board;
-import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.presentation.dto.res.PostRes;
 
 import java.util.List;
 
 public interface PostRepositoryCustom {
 
-    List<Post> findPostList(Board board, Long startPostId, int limit, String category);
+    List<PostRes> findPostList(Board board, Long startPostId, int limit, String category);
+
+    List<PostRes> searchPostList(Board board, String keyword, Long startPostId, int limit);
 }
\ No newline at end of file
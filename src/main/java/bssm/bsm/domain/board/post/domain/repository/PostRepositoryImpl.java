@@ -3,13 +3,19 @@ package bssm.bsm.domain.board.post.domain.repository;
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.category.domain.PostCategory;
 import bssm.bsm.domain.board.category.service.CategoryProvider;
-import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.presentation.dto.res.PostRes;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static bssm.bsm.domain.board.comment.domain.QComment.comment;
 import static bssm.bsm.domain.board.post.domain.QPost.post;
 import static bssm.bsm.domain.user.domain.QUser.user;
 
@@ -20,12 +26,14 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private final CategoryProvider categoryProvider;
 
     @Override
-    public List<Post> findPostList(Board board, Long startPostId, int limit, String category) {
-        return jpaQueryFactory.selectFrom(post)
+    public List<PostRes> findPostList(Board board, Long startPostId, int limit, String category) {
+        return jpaQueryFactory
+                .select(postResProjection())
+                .from(post)
                 .join(post.writer, user)
                 .where(
                         post.delete.isFalse(),
-                        post.board.eq(board),
+                        post.pk.boardId.eq(board.getId()),
                         categoryEq(board, category),
                         postIdLt(startPostId)
                 )
@@ -36,6 +44,83 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .fetch();
     }
 
+    // 제목, 본문 검색과 댓글 검색을 각자의 FULLTEXT 인덱스로 따로 실행한 뒤 합침
+    // OR로 묶으면 FULLTEXT 인덱스를 쓰지 못하고 게시판 전체를 훑게 됨
+    @Override
+    public List<PostRes> searchPostList(Board board, String keyword, Long startPostId, int limit) {
+        // boolean mode 연산자로 해석되지 않도록 큰따옴표로 감싸 구문 검색
+        String phrase = "\"" + keyword.replace("\"", "") + "\"";
+
+        List<Long> postIdList = jpaQueryFactory
+                .select(post.pk.id)
+                .from(post)
+                .where(
+                        Expressions.numberTemplate(Double.class,
+                                "function('match_against_title_content', {0}, {1}, {2})", post.title, post.content, phrase).gt(0),
+                        post.delete.isFalse(),
+                        post.pk.boardId.eq(board.getId()),
+                        postIdLt(startPostId)
+                )
+                .orderBy(post.pk.id.desc())
+                .limit(limit)
+                .fetch();
+
+        List<Long> commentPostIdList = jpaQueryFactory
+                .select(post.pk.id)
+                .distinct()
+                .from(comment)
+                .join(comment.post, post)
+                .where(
+                        Expressions.numberTemplate(Double.class,
+                                "function('match_against', {0}, {1})", comment.content, phrase).gt(0),
+                        comment.delete.isFalse(),
+                        post.delete.isFalse(),
+                        post.pk.boardId.eq(board.getId()),
+                        postIdLt(startPostId)
+                )
+                .orderBy(post.pk.id.desc())
+                .limit(limit)
+                .fetch();
+
+        List<Long> matchedPostIdList = Stream.concat(postIdList.stream(), commentPostIdList.stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+        if (matchedPostIdList.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory
+                .select(postResProjection())
+                .from(post)
+                .join(post.writer, user)
+                .where(
+                        post.pk.boardId.eq(board.getId()),
+                        post.pk.id.in(matchedPostIdList)
+                )
+                .orderBy(
+                        post.pk.id.desc()
+                )
+                .fetch();
+    }
+
+    // 목록에서는 본문을 쓰지 않으므로 필요한 컬럼만 조회
+    private ConstructorExpression<PostRes> postResProjection() {
+        return Projections.constructor(
+                PostRes.class,
+                post.pk.id,
+                user.code,
+                user.nickname,
+                post.anonymous,
+                post.categoryId,
+                post.title,
+                post.createdAt,
+                post.view,
+                post.totalComments,
+                post.totalLikes);
+    }
+
     private BooleanExpression categoryEq(Board board, String category) {
         if (category.equals("all")) {
             return null;
@@ -44,7 +129,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         if (postCategory == null) {
             return post.categoryId.isNull();
         }
-        return post.category.eq(postCategory);
+        return post.categoryId.eq(postCategory.getPk().getId());
     }
 
     private BooleanExpression postIdLt(Long startPostId) {
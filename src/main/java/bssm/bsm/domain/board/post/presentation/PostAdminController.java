@@ -0,0 +1,21 @@
+package bssm.bsm.domain.board.post.presentation;
+
+import bssm.bsm.domain.board.post.service.PostAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("admin/post")
+@RequiredArgsConstructor
+public class PostAdminController {
+
+    private final PostAdminService postAdminService;
+
+    @PutMapping("search-index")
+    public void rebuildSearchIndex() {
+        postAdminService.rebuildSearchIndex();
+    }
+
+}
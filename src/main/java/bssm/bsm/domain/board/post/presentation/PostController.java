@@ -4,6 +4,7 @@ import bssm.bsm.domain.board.post.presentation.dto.req.DeletePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindPostListReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindPostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindRecentPostListReq;
+import bssm.bsm.domain.board.post.presentation.dto.req.SearchPostListReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.UpdatePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.WritePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.res.PostListRes;
@@ -50,6 +51,16 @@ public class PostController {
         return postService.findRecentPostList(currentUser.getUserOrNull(), new FindRecentPostListReq(boardId, limit, category));
     }
 
+    @GetMapping("/{boardId}/search")
+    public PostListRes searchPostList(
+            @PathVariable String boardId,
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "limit", defaultValue = "15") int limit,
+            @RequestParam(value = "startPostId", required = false) Long startPostId
+    ) {
+        return postService.searchPostList(currentUser.getUserOrNull(), new SearchPostListReq(boardId, keyword, limit, startPostId));
+    }
+
     @GetMapping("/{boardId}/{postId}")
     public DetailPostRes findPost(@PathVariable String boardId, @PathVariable int postId) {
         return postService.findPost(currentUser.getUserOrNull(), new FindPostReq(boardId, postId));
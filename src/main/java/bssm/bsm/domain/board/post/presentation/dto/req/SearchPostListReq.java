@@ -0,0 +1,28 @@
+package bssm.bsm.domain.board.post.presentation.dto.req;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+@Getter
+@AllArgsConstructor
+public class SearchPostListReq {
+
+    @NotBlank
+    private String boardId;
+
+    @NotBlank
+    @Size(min = 2, max = 50)
+    private String keyword;
+
+    @Min(10) @Max(100)
+    private int limit;
+
+    @Positive
+    private Long startPostId;
+}
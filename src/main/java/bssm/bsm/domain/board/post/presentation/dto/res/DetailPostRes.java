@@ -1,6 +1,6 @@
 package bssm.bsm.domain.board.post.presentation.dto.res;
 
-import bssm.bsm.domain.board.like.domain.PostLike;
+import bssm.bsm.domain.board.like.domain.enums.Like;
 import bssm.bsm.domain.board.post.domain.Post;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.user.presentation.dto.res.UserRes;
@@ -13,22 +13,21 @@ public class DetailPostRes extends PostRes {
 
     private String content;
     private boolean permission;
-    private int myLike;
     private boolean anonymous;
 
-    public static DetailPostRes create(Post post, PostLike postLike, User nullableViewer) {
+    public static DetailPostRes create(Post post, int view, Like myLike, User nullableViewer) {
         DetailPostRes detailPostRes = new DetailPostRes();
         detailPostRes.id = post.getPk().getId();
         detailPostRes.user = UserRes.create(post);
         detailPostRes.category =  post.getCategoryId();
         detailPostRes.title = post.getTitle();
         detailPostRes.createdAt = post.getCreatedAt();
-        detailPostRes.view = post.getView();
+        detailPostRes.view = view;
         detailPostRes.totalComments = post.getTotalComments();
         detailPostRes.totalLikes = post.getTotalLikes();
         detailPostRes.content = post.getContent();
         detailPostRes.permission = nullableViewer != null && post.checkPermission(nullableViewer);
-        detailPostRes.myLike = postLike == null ? 0 : postLike.getLike().getValue();
+        detailPostRes.myLike = myLike.getValue();
         detailPostRes.anonymous = post.isAnonymous();
         return detailPostRes;
     }
@@ -1,6 +1,5 @@
 package bssm.bsm.domain.board.post.presentation.dto.res;
 
-import bssm.bsm.domain.board.post.domain.Post;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -13,13 +12,9 @@ public class PostListRes {
     List<PostRes> postList;
     int limit;
 
-    public static PostListRes create(List<Post> postList, int limit) {
-        List<PostRes> postResList = postList.stream()
-                .map(PostRes::create)
-                .toList();
-
+    public static PostListRes create(List<PostRes> postList, int limit) {
         PostListRes postListRes = new PostListRes();
-        postListRes.postList = postResList;
+        postListRes.postList = postList;
         postListRes.limit = limit;
         return postListRes;
     }
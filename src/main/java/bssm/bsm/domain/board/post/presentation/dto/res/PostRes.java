@@ -19,6 +19,19 @@ public class PostRes {
     protected int view;
     protected int totalComments;
     protected int totalLikes;
+    protected int myLike;
+
+    public PostRes(long id, long writerCode, String writerNickname, boolean anonymous, String category,
+                   String title, Date createdAt, int view, int totalComments, int totalLikes) {
+        this.id = id;
+        this.user = UserRes.create(writerCode, writerNickname, anonymous);
+        this.category = category;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.view = view;
+        this.totalComments = totalComments;
+        this.totalLikes = totalLikes;
+    }
 
     public static PostRes create(Post post) {
         PostRes postRes = new PostRes();
@@ -32,4 +45,19 @@ public class PostRes {
         postRes.totalLikes = post.getTotalLikes();
         return postRes;
     }
+
+    // 캐시된 목록을 공유하므로 유저별 좋아요 상태는 복사본에 적용
+    public PostRes withMyLike(int myLike) {
+        PostRes postRes = new PostRes();
+        postRes.id = id;
+        postRes.user = user;
+        postRes.category = category;
+        postRes.title = title;
+        postRes.createdAt = createdAt;
+        postRes.view = view;
+        postRes.totalComments = totalComments;
+        postRes.totalLikes = totalLikes;
+        postRes.myLike = myLike;
+        return postRes;
+    }
 }
@@ -0,0 +1,16 @@
+package bssm.bsm.domain.board.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PostAdminService {
+
+    private final PostSearchIndexProvider postSearchIndexProvider;
+
+    public void rebuildSearchIndex() {
+        postSearchIndexProvider.rebuild();
+    }
+
+}
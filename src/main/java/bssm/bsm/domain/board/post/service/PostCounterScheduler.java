@@ -0,0 +1,20 @@
+package bssm.bsm.domain.board.post.service;
+
+import bssm.bsm.domain.board.post.domain.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostCounterScheduler {
+
+    private final PostRepository postRepository;
+
+    // 좋아요, 댓글 수가 실제 데이터와 어긋난 게시글을 다시 맞춤
+    @Scheduled(cron = "0 0 4 * * ?")
+    private void reconcilePostCounter() {
+        postRepository.reconcileTotalLikes();
+        postRepository.reconcileTotalComments();
+    }
+}
@@ -1,14 +1,18 @@
 package bssm.bsm.domain.board.post.service;
 
 import bssm.bsm.domain.board.board.domain.Board;
+import bssm.bsm.domain.board.board.service.BoardProvider;
 import bssm.bsm.domain.board.post.domain.Post;
 import bssm.bsm.domain.board.post.domain.PostPk;
 import bssm.bsm.domain.board.post.exception.NoSuchPostException;
+import bssm.bsm.domain.board.post.presentation.dto.res.PostRes;
 import bssm.bsm.domain.board.post.domain.repository.PostRepository;
+import bssm.bsm.global.sequence.SequenceProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
 import java.util.List;
 
 @Service
@@ -16,22 +20,31 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostProvider {
     private final PostRepository postRepository;
+    private final BoardProvider boardProvider;
+    private final SequenceProvider sequenceProvider;
+
+    @PostConstruct
+    public void init() {
+        // 게시판별 게시글 번호 시퀀스를 DB에 저장된 마지막 게시글 번호와 맞춤
+        boardProvider.findAllBoard().forEach(board ->
+                sequenceProvider.reconcile(getPostSequenceName(board), postRepository.findLastPostId(board.getId())));
+    }
 
     public Post findPost(Board board, long postId) {
         return postRepository.findByPkAndDelete(PostPk.create(postId, board), false)
                 .orElseThrow(NoSuchPostException::new);
     }
 
-    public Long getNewPostId(Board board) {
-        return postRepository.countByBoard(board) + 1;
+    public long getNewPostId(Board board) {
+        return sequenceProvider.next(getPostSequenceName(board), () -> postRepository.findLastPostId(board.getId()));
     }
 
-    public List<Post> findRecentPostList(Board board, int limit, String category) {
-        return postRepository.findPostList(board, null, limit, category);
+    public List<PostRes> findPostListByCursor(Board board, long startPostId, int limit, String category) {
+        return postRepository.findPostList(board, startPostId, limit, category);
     }
 
-    public List<Post> findPostListByCursor(Board board, long startPostId, int limit, String category) {
-        return postRepository.findPostList(board, startPostId, limit, category);
+    private String getPostSequenceName(Board board) {
+        return "post:" + board.getId();
     }
 
 }
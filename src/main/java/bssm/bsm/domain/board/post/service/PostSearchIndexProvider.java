@@ -0,0 +1,81 @@
+package bssm.bsm.domain.board.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexProvider {
+
+    private static final String POST_INDEX_NAME = "ft_post_title_content";
+    private static final String POST_INDEX_COLUMNS = "(title, content)";
+    private static final String COMMENT_INDEX_NAME = "ft_comment_content";
+    private static final String COMMENT_INDEX_COLUMNS = "(content)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor threadPoolTaskExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // ddl-auto로는 FULLTEXT 인덱스가 생성되지 않으므로 스키마 생성 이후 직접 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (!existsIndex("post", POST_INDEX_NAME)) createPostIndex();
+            if (!existsIndex("comment", COMMENT_INDEX_NAME)) createCommentIndex();
+        } catch (DataAccessException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 인덱스를 DB에 저장된 게시글, 댓글로 백그라운드에서 다시 생성, 이미 진행 중이면 무시
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        threadPoolTaskExecutor.execute(() -> {
+            try {
+                rebuildIndex("post", POST_INDEX_NAME, POST_INDEX_COLUMNS);
+                rebuildIndex("comment", COMMENT_INDEX_NAME, COMMENT_INDEX_COLUMNS);
+            } catch (DataAccessException e) {
+                e.printStackTrace();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    // 삭제와 생성을 한 문장으로 실행해서 새 인덱스가 만들어지는 동안에도 기존 인덱스로 검색 가능
+    private void rebuildIndex(String tableName, String indexName, String columns) {
+        if (!existsIndex(tableName, indexName)) {
+            createIndex(tableName, indexName, columns);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + tableName +
+                " DROP INDEX " + indexName +
+                ", ADD FULLTEXT INDEX " + indexName + " " + columns + " WITH PARSER ngram");
+    }
+
+    private void createPostIndex() {
+        createIndex("post", POST_INDEX_NAME, POST_INDEX_COLUMNS);
+    }
+
+    private void createCommentIndex() {
+        createIndex("comment", COMMENT_INDEX_NAME, COMMENT_INDEX_COLUMNS);
+    }
+
+    private void createIndex(String tableName, String indexName, String columns) {
+        jdbcTemplate.execute("ALTER TABLE " + tableName + " ADD FULLTEXT INDEX " + indexName + " " + columns + " WITH PARSER ngram");
+    }
+
+    private boolean existsIndex(String tableName, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, tableName, indexName);
+        return count != null && count > 0;
+    }
+}
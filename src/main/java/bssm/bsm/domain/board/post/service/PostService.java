@@ -2,7 +2,7 @@ package bssm.bsm.domain.board.post.service;
 
 import bssm.bsm.domain.board.board.domain.Board;
 import bssm.bsm.domain.board.category.domain.PostCategory;
-import bssm.bsm.domain.board.like.domain.PostLike;
+import bssm.bsm.domain.board.like.domain.enums.Like;
 import bssm.bsm.domain.board.like.service.LikeProvider;
 import bssm.bsm.domain.board.post.domain.Post;
 import bssm.bsm.domain.board.post.exception.DoNotHavePermissionToModifyPostException;
@@ -11,9 +11,11 @@ import bssm.bsm.domain.board.post.presentation.dto.req.DeletePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindPostListReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindPostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.FindRecentPostListReq;
+import bssm.bsm.domain.board.post.presentation.dto.req.SearchPostListReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.UpdatePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.req.WritePostReq;
 import bssm.bsm.domain.board.post.presentation.dto.res.PostListRes;
+import bssm.bsm.domain.board.post.presentation.dto.res.PostRes;
 import bssm.bsm.domain.board.post.presentation.dto.res.DetailPostRes;
 import bssm.bsm.domain.board.post.domain.repository.PostRepository;
 import bssm.bsm.domain.board.board.service.BoardProvider;
@@ -27,6 +29,7 @@ import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Validated
@@ -39,33 +42,42 @@ public class PostService {
     private final BoardProvider boardProvider;
     private final CategoryProvider categoryProvider;
     private final PostProvider postProvider;
+    private final PostViewCounter postViewCounter;
+    private final RecentPostListProvider recentPostListProvider;
     private final LikeProvider likeProvider;
 
     public PostListRes findPostList(User nullableUser, @Valid FindPostListReq req) {
         Board board = boardProvider.findBoard(req.getBoardId());
         checkViewPermission(board, nullableUser);
 
-        List<Post> postList = postProvider.findPostListByCursor(board, req.getStartPostId(), req.getLimit(), req.getCategory());
-        return PostListRes.create(postList, req.getLimit());
+        List<PostRes> postList = postProvider.findPostListByCursor(board, req.getStartPostId(), req.getLimit(), req.getCategory());
+        return PostListRes.create(applyMyLike(nullableUser, board, postList), req.getLimit());
     }
 
     public PostListRes findRecentPostList(User nullableUser, @Valid FindRecentPostListReq req) {
         Board board = boardProvider.findBoard(req.getBoardId());
         checkViewPermission(board, nullableUser);
 
-        List<Post> postList = postProvider.findRecentPostList(board, req.getLimit(), req.getCategory());
-        return PostListRes.create(postList, req.getLimit());
+        List<PostRes> postList = recentPostListProvider.findRecentPostList(board, req.getLimit(), req.getCategory());
+        return PostListRes.create(applyMyLike(nullableUser, board, postList), req.getLimit());
+    }
+
+    public PostListRes searchPostList(User nullableUser, @Valid SearchPostListReq req) {
+        Board board = boardProvider.findBoard(req.getBoardId());
+        checkViewPermission(board, nullableUser);
+
+        List<PostRes> postList = postRepository.searchPostList(board, req.getKeyword(), req.getStartPostId(), req.getLimit());
+        return PostListRes.create(applyMyLike(nullableUser, board, postList), req.getLimit());
     }
 
-    @Transactional
     public DetailPostRes findPost(User nullableUser, @Valid FindPostReq req) {
         Board board = boardProvider.findBoard(req.getBoardId());
         checkViewPermission(board, nullableUser);
         Post post = postProvider.findPost(board, req.getPostId());
-        PostLike postLike = likeProvider.findMyPostLike(nullableUser, post);
+        Like myLike = likeProvider.findMyLike(nullableUser, post);
 
-        post.increaseTotalViews();
-        return DetailPostRes.create(post, postLike, nullableUser);
+        int view = postViewCounter.increaseView(post);
+        return DetailPostRes.create(post, view, myLike, nullableUser);
     }
 
     @Transactional
@@ -73,10 +85,11 @@ public class PostService {
         Board board = boardProvider.findBoard(req.getBoardId());
         checkWritePermission(board, user);
 
-        Long newPostId = postProvider.getNewPostId(board);
+        long newPostId = postProvider.getNewPostId(board);
         PostCategory postCategory = categoryProvider.findCategory(req.getCategoryId(), board);
         Post newPost = Post.create(newPostId, board, user, req.getTitle(), req.getContent(), req.isAnonymous(), postCategory);
         postRepository.save(newPost);
+        recentPostListProvider.evictRecentPostList(board);
         return newPostId;
     }
 
@@ -87,6 +100,7 @@ public class PostService {
         checkPostWriter(post, user);
         PostCategory category = categoryProvider.findCategory(req.getCategoryId(), board);
         post.update(req.getTitle(), req.getContent(), category, req.isAnonymous());
+        recentPostListProvider.evictRecentPostList(board);
     }
 
     @Transactional
@@ -95,6 +109,18 @@ public class PostService {
         Post post = postProvider.findPost(board, req.getPostId());
         checkPostWriter(post, user);
         post.delete();
+        recentPostListProvider.evictRecentPostList(board);
+    }
+
+    private List<PostRes> applyMyLike(User nullableUser, Board board, List<PostRes> postList) {
+        if (nullableUser == null) return postList;
+
+        Map<Long, Like> myLikeMap = likeProvider.findMyLikeMap(nullableUser, board.getId(), postList.stream()
+                .map(PostRes::getId)
+                .toList());
+        return postList.stream()
+                .map(postRes -> postRes.withMyLike(myLikeMap.getOrDefault(postRes.getId(), Like.NONE).getValue()))
+                .toList();
     }
 
     private void checkPostWriter(Post post, User user) {
@@ -0,0 +1,35 @@
+package bssm.bsm.domain.board.post.service;
+
+import bssm.bsm.domain.board.post.domain.Post;
+import bssm.bsm.domain.board.post.domain.PostPk;
+import bssm.bsm.domain.board.post.domain.repository.PostRepository;
+import bssm.bsm.global.counter.CountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PreDestroy;
+
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostRepository postRepository;
+    private final CountBuffer<PostPk> viewBuffer = new CountBuffer<>();
+
+    public int increaseView(Post post) {
+        return post.getView() + (int) viewBuffer.increase(post.getPk());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        viewBuffer.flush((pk, view) -> postRepository.increaseView(pk.getId(), pk.getBoardId(), view.intValue()));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,88 @@
+package bssm.bsm.domain.board.post.service;
+
+import bssm.bsm.domain.board.board.domain.Board;
+import bssm.bsm.domain.board.board.service.BoardProvider;
+import bssm.bsm.domain.board.category.service.CategoryProvider;
+import bssm.bsm.domain.board.post.domain.repository.PostRepository;
+import bssm.bsm.domain.board.post.presentation.dto.res.PostRes;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@Service
+@RequiredArgsConstructor
+public class RecentPostListProvider {
+
+    private static final String RECENT_POST_LIST_CHANNEL = "recent-post-list:invalidate";
+
+    private final PostRepository postRepository;
+    private final BoardProvider boardProvider;
+    private final CategoryProvider categoryProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Executor threadPoolTaskExecutor;
+
+    // 조회수, 좋아요 수 등을 반영하기 위해 30초가 지나면 백그라운드에서 다시 조회
+    private LoadingCache<RecentPostListKey, List<PostRes>> recentPostListCache;
+
+    @PostConstruct
+    private void init() {
+        recentPostListCache = CacheBuilder.newBuilder()
+                .maximumSize(1000)
+                .refreshAfterWrite(Duration.ofSeconds(30))
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build(CacheLoader.asyncReloading(CacheLoader.from(this::loadRecentPostList), threadPoolTaskExecutor));
+
+        // 다른 서버에서 게시글이 바뀌면 해당 게시판의 캐시를 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> invalidateBoard(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RECENT_POST_LIST_CHANNEL)
+        );
+    }
+
+    public List<PostRes> findRecentPostList(Board board, int limit, String category) {
+        // 없는 카테고리는 캐시에 넣지 않고 바로 예외 처리
+        if (!category.equals("all")) {
+            categoryProvider.findCategory(category, board);
+        }
+        return recentPostListCache.getUnchecked(new RecentPostListKey(board.getId(), category, limit));
+    }
+
+    // 커밋 전에 다른 요청이 이전 목록을 다시 캐시하지 않도록 커밋 후에 제거
+    public void evictRecentPostList(Board board) {
+        String boardId = board.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateBoard(boardId);
+                redisTemplate.convertAndSend(RECENT_POST_LIST_CHANNEL, boardId);
+            }
+        });
+    }
+
+    private void invalidateBoard(String boardId) {
+        recentPostListCache.asMap().keySet()
+                .removeIf(key -> key.boardId().equals(boardId));
+    }
+
+    private List<PostRes> loadRecentPostList(RecentPostListKey key) {
+        Board board = boardProvider.findBoard(key.boardId());
+        return List.copyOf(postRepository.findPostList(board, null, key.limit(), key.category()));
+    }
+
+    private record RecentPostListKey(String boardId, String category, int limit) {}
+
+}
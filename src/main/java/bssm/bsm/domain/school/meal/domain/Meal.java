@@ -37,6 +37,10 @@ public class Meal {
         return meal;
     }
 
+    public boolean isSameMenu(Meal meal) {
+        return content.equals(meal.content) && cal == meal.cal;
+    }
+
     public void update(String content, float cal) {
         this.content = content;
         this.cal = cal;
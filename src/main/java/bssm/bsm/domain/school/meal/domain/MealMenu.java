@@ -0,0 +1,6 @@
+package bssm.bsm.domain.school.meal.domain;
+
+import java.time.LocalDate;
+
+// 엔티티를 거치지 않고 조회한 급식 한 끼
+public record MealMenu(LocalDate date, MealType type, String content, float cal) {}
@@ -5,9 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.time.LocalDate;
 import java.util.List;
 
-public interface MealRepository extends JpaRepository<Meal, MealPk> {
-
-    List<Meal> findByPkDate(LocalDate date);
+public interface MealRepository extends JpaRepository<Meal, MealPk>, MealRepositoryCustom {
 
     List<Meal> findAllByPkDateBetween(LocalDate start, LocalDate end);
 
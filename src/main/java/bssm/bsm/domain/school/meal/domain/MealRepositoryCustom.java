@@ -0,0 +1,13 @@
+package bssm.bsm.domain.school.meal.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MealRepositoryCustom {
+
+    List<MealMenu> findMenuByDateBetween(LocalDate start, LocalDate end);
+
+    void upsertAll(List<Meal> mealList);
+
+    void deleteAllByPk(List<MealPk> pkList);
+}
@@ -0,0 +1,64 @@
+package bssm.bsm.domain.school.meal.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MealRepositoryImpl implements MealRepositoryCustom {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 영속성 컨텍스트에 남은 엔티티와 상관없이 커밋된 값을 읽음
+    @Override
+    public List<MealMenu> findMenuByDateBetween(LocalDate start, LocalDate end) {
+        return jdbcTemplate.query(
+                "SELECT date, type, content, cal FROM meal WHERE date BETWEEN ? AND ?",
+                (rs, rowNum) -> new MealMenu(
+                        rs.getDate("date").toLocalDate(),
+                        MealType.valueOf(rs.getString("type")),
+                        rs.getString("content"),
+                        rs.getFloat("cal")
+                ),
+                Date.valueOf(start),
+                Date.valueOf(end)
+        );
+    }
+
+    // 식별자를 직접 지정하는 엔티티라 saveAll은 행마다 SELECT를 하므로 JDBC 배치로 처리
+    @Override
+    public void upsertAll(List<Meal> mealList) {
+        if (mealList.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO meal (date, type, content, cal) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE content = VALUES(content), cal = VALUES(cal)",
+                mealList,
+                BATCH_SIZE,
+                (ps, meal) -> {
+                    ps.setDate(1, Date.valueOf(meal.getPk().getDate()));
+                    ps.setString(2, meal.getPk().getType().name());
+                    ps.setString(3, meal.getContent());
+                    ps.setFloat(4, meal.getCal());
+                }
+        );
+    }
+
+    @Override
+    public void deleteAllByPk(List<MealPk> pkList) {
+        if (pkList.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM meal WHERE date = ? AND type = ?",
+                pkList,
+                BATCH_SIZE,
+                (ps, pk) -> {
+                    ps.setDate(1, Date.valueOf(pk.getDate()));
+                    ps.setString(2, pk.getType().name());
+                }
+        );
+    }
+}
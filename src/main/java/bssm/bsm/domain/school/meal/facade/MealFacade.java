@@ -9,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -25,10 +24,6 @@ public class MealFacade {
         return getMeal(LocalDate.now(), type).getContent();
     }
 
-    public List<Meal> getMealList(LocalDate date) {
-        return mealRepository.findByPkDate(date);
-    }
-
     public Meal getMeal(LocalDate date, MealType type) {
         return mealRepository.findById(MealPk.create(date, type))
                 .orElseThrow(NotFoundException::new);
@@ -1,5 +1,6 @@
 package bssm.bsm.domain.school.meal.presentation;
 
+import bssm.bsm.domain.school.meal.presentation.dto.res.MealImportRes;
 import bssm.bsm.domain.school.meal.service.MealService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -23,4 +24,10 @@ public class MealAdminController {
         mealService.updateMonthMeal(date);
     }
 
+    @PutMapping("{start}/{end}")
+    public MealImportRes importMeal(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth start,
+                                    @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth end) throws IOException {
+        return mealService.importMeal(start, end);
+    }
+
 }
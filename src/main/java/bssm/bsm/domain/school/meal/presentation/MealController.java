@@ -1,14 +1,18 @@
 package bssm.bsm.domain.school.meal.presentation;
 
-import bssm.bsm.domain.school.meal.presentation.dto.res.MealRes;
+import bssm.bsm.domain.school.meal.service.MealCalendarEntry;
 import bssm.bsm.domain.school.meal.service.MealService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 @RestController
@@ -19,7 +23,12 @@ public class MealController {
     private final MealService mealService;
 
     @GetMapping("{date}")
-    public MealRes getMeal(@PathVariable @DateTimeFormat(pattern = "yyMMdd") LocalDate date) {
-        return mealService.getMeal(date);
+    public ResponseEntity<byte[]> getMeal(@PathVariable @DateTimeFormat(pattern = "yyMMdd") LocalDate date) {
+        MealCalendarEntry meal = mealService.getMeal(date);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .eTag(meal.etag())
+                .body(meal.json());
     }
 }
@@ -15,20 +15,23 @@ import java.util.regex.Pattern;
 @AllArgsConstructor
 public class RawMealItemDto {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern CAL_PATTERN = Pattern.compile("[0-9.]+");
+
     private String DDISH_NM; // 급식 식단 정보 문자열
     private String MLSV_YMD; // 급식 날짜
     private String MMEAL_SC_NM; // 급식 시간
     private String CAL_INFO; // 칼로리 정보
 
     public Meal toEntity(String content) {
-        LocalDate date = LocalDate.parse(MLSV_YMD, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate date = LocalDate.parse(MLSV_YMD, DATE_FORMATTER);
         MealType type = MealType.create(MMEAL_SC_NM);
         float cal = parseCalInfo();
         return Meal.create(date, type, content, cal);
     }
 
     private float parseCalInfo() {
-        Matcher calMatch = Pattern.compile("[0-9.]+").matcher(CAL_INFO);
+        Matcher calMatch = CAL_PATTERN.matcher(CAL_INFO);
         if (calMatch.find()) return Float.parseFloat(calMatch.group());
 
         throw new ParseMealCalException();
@@ -0,0 +1,27 @@
+package bssm.bsm.domain.school.meal.presentation.dto.res;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Getter
+@NoArgsConstructor
+public class MealImportRes {
+
+    private YearMonth startMonth;
+    private YearMonth endMonth;
+    private int fetchedMeals;
+    private int upsertedMeals;
+    private int deletedMeals;
+
+    public static MealImportRes create(YearMonth startMonth, YearMonth endMonth, int fetchedMeals, int upsertedMeals, int deletedMeals) {
+        MealImportRes res = new MealImportRes();
+        res.startMonth = startMonth;
+        res.endMonth = endMonth;
+        res.fetchedMeals = fetchedMeals;
+        res.upsertedMeals = upsertedMeals;
+        res.deletedMeals = deletedMeals;
+        return res;
+    }
+}
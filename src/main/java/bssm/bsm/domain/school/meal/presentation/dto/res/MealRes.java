@@ -1,6 +1,6 @@
 package bssm.bsm.domain.school.meal.presentation.dto.res;
 
-import bssm.bsm.domain.school.meal.domain.Meal;
+import bssm.bsm.domain.school.meal.domain.MealMenu;
 import bssm.bsm.domain.school.meal.domain.MealType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,13 +16,13 @@ public class MealRes {
     private final Map<MealType, MealResItem> data = new HashMap<>();
     private List<MealType> keys;
 
-    public static MealRes create(List<Meal> mealList) {
+    public static MealRes create(List<MealMenu> mealList) {
         MealRes res = new MealRes();
         mealList.forEach(meal ->
-                res.data.put(meal.getType(), MealResItem.create(meal))
+                res.data.put(meal.type(), MealResItem.create(meal))
         );
         res.keys = mealList.stream()
-                .map(Meal::getType)
+                .map(MealMenu::type)
                 .toList();
         return res;
     }
@@ -1,6 +1,6 @@
 package bssm.bsm.domain.school.meal.presentation.dto.res;
 
-import bssm.bsm.domain.school.meal.domain.Meal;
+import bssm.bsm.domain.school.meal.domain.MealMenu;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,10 +12,10 @@ public class MealResItem {
     private String content;
     private float cal;
 
-    public static MealResItem create(Meal meal) {
+    public static MealResItem create(MealMenu meal) {
         MealResItem resItem = new MealResItem();
-        resItem.content = meal.getContent();
-        resItem.cal = meal.getCal();
+        resItem.content = meal.content();
+        resItem.cal = meal.cal();
         return resItem;
     }
 }
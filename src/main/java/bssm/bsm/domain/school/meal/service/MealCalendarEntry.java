@@ -0,0 +1,4 @@
+package bssm.bsm.domain.school.meal.service;
+
+// 하루치 급식을 미리 직렬화해둔 응답
+public record MealCalendarEntry(byte[] json, String etag) {}
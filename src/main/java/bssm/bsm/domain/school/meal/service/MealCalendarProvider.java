@@ -0,0 +1,129 @@
+package bssm.bsm.domain.school.meal.service;
+
+import bssm.bsm.domain.school.meal.domain.MealMenu;
+import bssm.bsm.domain.school.meal.domain.MealRepository;
+import bssm.bsm.domain.school.meal.domain.MealType;
+import bssm.bsm.domain.school.meal.presentation.dto.res.MealRes;
+import bssm.bsm.global.error.exceptions.InternalServerException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+@Service
+@RequiredArgsConstructor
+public class MealCalendarProvider {
+
+    private static final String MEAL_CALENDAR_RELOAD_CHANNEL = "meal-calendar:reload";
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    private static final int CALENDAR_MONTHS_AHEAD = 2;
+
+    private final MealRepository mealRepository;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 지난달부터 다음다음 달까지만 메모리에 두고 통째로 교체, 읽을 때는 동기화가 필요 없음
+    private volatile MealCalendar mealCalendar = new MealCalendar(LocalDate.MIN, LocalDate.MIN, Map.of());
+    // 범위 밖의 날짜는 DB에서 조회한 뒤 잠깐 캐시
+    private final Cache<LocalDate, MealCalendarEntry> outOfRangeCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private MealCalendarEntry emptyEntry;
+
+    @PostConstruct
+    private void init() {
+        emptyEntry = createEntry(new EnumMap<>(MealType.class));
+        reload();
+        // 직접 보낸 알림은 이미 반영했으므로 무시
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    if (!INSTANCE_ID.equals(new String(message.getBody(), StandardCharsets.UTF_8))) reload();
+                },
+                new ChannelTopic(MEAL_CALENDAR_RELOAD_CHANNEL)
+        );
+    }
+
+    public MealCalendarEntry findMealCalendarEntry(LocalDate date) {
+        MealCalendar calendar = mealCalendar;
+        if (!date.isBefore(calendar.start()) && !date.isAfter(calendar.end())) {
+            return calendar.entryMap().getOrDefault(date, emptyEntry);
+        }
+        try {
+            return outOfRangeCache.get(date, () -> loadEntry(date));
+        } catch (ExecutionException e) {
+            throw new InternalServerException();
+        }
+    }
+
+    // 날짜가 바뀌면 범위도 옮겨야 하므로 매일 다시 불러옴
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void reload() {
+        LocalDate start = YearMonth.now().minusMonths(1).atDay(1);
+        LocalDate end = YearMonth.now().plusMonths(CALENDAR_MONTHS_AHEAD).atEndOfMonth();
+
+        // 커밋 직후 호출되면 같은 영속성 컨텍스트에 이전 값의 엔티티가 남아있으므로 JDBC로 조회
+        Map<LocalDate, Map<MealType, MealMenu>> mealMap = new HashMap<>();
+        mealRepository.findMenuByDateBetween(start, end).forEach(meal -> mealMap
+                .computeIfAbsent(meal.date(), date -> new EnumMap<>(MealType.class))
+                .put(meal.type(), meal));
+
+        Map<LocalDate, MealCalendarEntry> entryMap = new HashMap<>();
+        mealMap.forEach((date, dayMealMap) -> entryMap.put(date, createEntry(dayMealMap)));
+        mealCalendar = new MealCalendar(start, end, Map.copyOf(entryMap));
+        outOfRangeCache.invalidateAll();
+    }
+
+    // 커밋 후에 다시 불러오고 다른 서버에도 알림
+    public void reloadAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+                redisTemplate.convertAndSend(MEAL_CALENDAR_RELOAD_CHANNEL, INSTANCE_ID);
+            }
+        });
+    }
+
+    private MealCalendarEntry loadEntry(LocalDate date) {
+        Map<MealType, MealMenu> dayMealMap = new EnumMap<>(MealType.class);
+        mealRepository.findMenuByDateBetween(date, date).forEach(meal -> dayMealMap.put(meal.type(), meal));
+        return dayMealMap.isEmpty() ? emptyEntry : createEntry(dayMealMap);
+    }
+
+    private MealCalendarEntry createEntry(Map<MealType, MealMenu> dayMealMap) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(MealRes.create(List.copyOf(dayMealMap.values())));
+            String etag = "\"" + Hashing.murmur3_128().hashBytes(json) + "\"";
+            return new MealCalendarEntry(json, etag);
+        } catch (JsonProcessingException e) {
+            e.printStackTrace();
+            throw new InternalServerException();
+        }
+    }
+
+    private record MealCalendar(LocalDate start, LocalDate end, Map<LocalDate, MealCalendarEntry> entryMap) {}
+
+}
@@ -1,31 +1,91 @@
 package bssm.bsm.domain.school.meal.service;
 
 import bssm.bsm.domain.school.meal.presentation.dto.RawMealItemDto;
+import bssm.bsm.global.error.exceptions.InternalServerException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.UncheckedIOException;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MealProvider {
 
+    private static final Gson GSON = new Gson();
+    private static final String NO_DATA_CODE = "INFO-200";
+
     private final OkHttpClient httpClient;
     @Value("${env.api.meal.url}")
     private String MEAL_API_URL;
+    // 여러 달을 한 번에 가져올 때 동시에 보내는 요청 수
+    @Value("${env.api.meal.concurrency:3}")
+    private int CONCURRENCY;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    private void init() {
+        executor = Executors.newFixedThreadPool(CONCURRENCY, new ThreadFactoryBuilder()
+                .setNameFormat("meal-provider-%d")
+                .build());
+    }
+
+    @PreDestroy
+    private void destroy() {
+        executor.shutdownNow();
+    }
+
+    // NEIS API는 한 번에 100개까지만 주므로 달마다 나눠서 동시에 요청
+    public List<RawMealItemDto> getRawMealList(YearMonth start, YearMonth end) throws IOException {
+        List<YearMonth> monthList = Stream.iterate(start, month -> !month.isAfter(end), month -> month.plusMonths(1))
+                .toList();
+        AtomicInteger fetchedMonths = new AtomicInteger(0);
+        List<CompletableFuture<List<RawMealItemDto>>> futureList = monthList.stream()
+                .map(month -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        List<RawMealItemDto> rawMealList = getRawMonthMealList(month);
+                        log.info("급식 정보 가져오는 중 {}/{}: {} {}건",
+                                fetchedMonths.incrementAndGet(), monthList.size(), month, rawMealList.size());
+                        return rawMealList;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futureList.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException ex) throw ex.getCause();
+            if (e.getCause() instanceof RuntimeException ex) throw ex;
+            throw e;
+        }
+        return futureList.stream()
+                .flatMap(future -> future.join().stream())
+                .toList();
+    }
 
     public List<RawMealItemDto> getRawMonthMealList(YearMonth date) throws IOException {
         String dateParam = "MLSV_YMD=" + date.getYear() + String.format("%02d", date.getMonthValue());
@@ -33,17 +93,64 @@ public class MealProvider {
                 .url(MEAL_API_URL + dateParam)
                 .get()
                 .build();
-        Response mealResponse = httpClient.newCall(mealRequest).execute();
+        try (Response mealResponse = httpClient.newCall(mealRequest).execute();
+             JsonReader reader = new JsonReader(Objects.requireNonNull(mealResponse.body()).charStream())) {
+            return readRawMealList(reader);
+        }
+    }
 
-        JsonElement element = JsonParser.parseString(Objects.requireNonNull(mealResponse.body()).string());
-        JsonArray jsonElements = element
-                .getAsJsonObject().get("mealServiceDietInfo")
-                .getAsJsonArray().get(1)
-                .getAsJsonObject().get("row")
-                .getAsJsonArray();
+    // {"mealServiceDietInfo": [{"head": [...]}, {"row": [...]}]} 에서 row만 읽음
+    // 급식이 없는 달은 mealServiceDietInfo 대신 {"RESULT": {"CODE": "INFO-200", ...}}이 옴
+    private List<RawMealItemDto> readRawMealList(JsonReader reader) throws IOException {
+        List<RawMealItemDto> rawMealList = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("RESULT")) {
+                checkResultCode(reader);
+                continue;
+            }
+            if (!name.equals("mealServiceDietInfo")) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (!reader.nextName().equals("row")) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        rawMealList.add(GSON.fromJson(reader, RawMealItemDto.class));
+                    }
+                    reader.endArray();
+                }
+                reader.endObject();
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return rawMealList;
+    }
 
-        Type RawMealList = new TypeToken<List<RawMealItemDto>>(){}.getType();
-        return new Gson().fromJson(jsonElements, RawMealList);
+    private void checkResultCode(JsonReader reader) throws IOException {
+        String code = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("CODE")) {
+                code = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        // 데이터가 없는 경우가 아닌 오류는 기존 급식을 지우지 않도록 예외 처리
+        if (!NO_DATA_CODE.equals(code)) {
+            throw new InternalServerException("급식 정보를 가져오는 데 문제가 발생하였습니다.");
+        }
     }
 
 }
@@ -1,40 +1,77 @@
 package bssm.bsm.domain.school.meal.service;
 
 import bssm.bsm.domain.school.meal.domain.MealRepository;
-import bssm.bsm.domain.school.meal.presentation.dto.res.MealRes;
 import bssm.bsm.domain.school.meal.domain.Meal;
+import bssm.bsm.domain.school.meal.domain.MealPk;
 import bssm.bsm.domain.school.meal.facade.MealFacade;
+import bssm.bsm.domain.school.meal.presentation.dto.res.MealImportRes;
+import bssm.bsm.global.error.exceptions.BadRequestException;
+import com.google.common.collect.ImmutableMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MealService {
 
+    private static final int MAX_IMPORT_MONTHS = 12;
+
     private final MealFacade mealFacade;
     private final MealProvider mealProvider;
     private final MealRepository mealRepository;
+    private final MealCalendarProvider mealCalendarProvider;
+    private final TransactionTemplate transactionTemplate;
 
-    public MealRes getMeal(LocalDate date) {
-         List<Meal> mealList = mealFacade.getMealList(date);
-         return MealRes.create(mealList);
+    public MealCalendarEntry getMeal(LocalDate date) {
+        return mealCalendarProvider.findMealCalendarEntry(date);
     }
 
     public void updateMonthMeal(YearMonth date) throws IOException {
-        List<Meal> mealList = mealProvider.getRawMonthMealList(date).stream()
+        importMeal(date, date);
+    }
+
+    // 가져오는 동안에는 DB 연결을 잡지 않고, 모두 가져온 뒤 한 트랜잭션으로 반영
+    public MealImportRes importMeal(YearMonth start, YearMonth end) throws IOException {
+        if (start.isAfter(end) || start.plusMonths(MAX_IMPORT_MONTHS - 1).isBefore(end)) {
+            throw new BadRequestException(ImmutableMap.<String, String>builder().
+                    put("end", "가져올 기간은 1개월에서 " + MAX_IMPORT_MONTHS + "개월 사이여야 합니다").
+                    build()
+            );
+        }
+        List<Meal> mealList = mealProvider.getRawMealList(start, end).stream()
                 .map(meal -> meal.toEntity(mealFacade.filterMealStr(meal.getDDISH_NM())))
                 .toList();
 
-        List<Meal> deleteList = mealRepository.findAllByPkDateBetween(date.atDay(1), date.atEndOfMonth());
-        mealList.forEach(deleteList::remove);
-        mealRepository.deleteAll(deleteList);
+        return transactionTemplate.execute(status -> applyMealList(start, end, mealList));
+    }
+
+    private MealImportRes applyMealList(YearMonth start, YearMonth end, List<Meal> mealList) {
+        Map<MealPk, Meal> prevMealMap = mealRepository.findAllByPkDateBetween(start.atDay(1), end.atEndOfMonth()).stream()
+                .collect(Collectors.toMap(Meal::getPk, Function.identity()));
+
+        // 새로 생겼거나 내용이 바뀐 급식만 반영하고, 남은 급식은 삭제
+        List<Meal> upsertList = new ArrayList<>();
+        for (Meal meal : mealList) {
+            Meal prevMeal = prevMealMap.remove(meal.getPk());
+            if (prevMeal == null || !prevMeal.isSameMenu(meal)) {
+                upsertList.add(meal);
+            }
+        }
 
-        mealRepository.saveAll(mealList);
+        mealRepository.upsertAll(upsertList);
+        mealRepository.deleteAllByPk(new ArrayList<>(prevMealMap.keySet()));
+        mealCalendarProvider.reloadAfterCommit();
+        return MealImportRes.create(start, end, mealList.size(), upsertList.size(), prevMealMap.size());
     }
 
 }
@@ -34,8 +34,9 @@ public class MeisterData {
     @ColumnDefault("0")
     private float score;
 
-    @Column(columnDefinition = "MEDIUMTEXT")
-    private String scoreRawData;
+    // 원본 HTML은 MeisterRawData에 저장
+    @Column(length = 64)
+    private String scoreRawDataHash;
 
     @Column(nullable = false)
     @ColumnDefault("0")
@@ -45,29 +46,29 @@ public class MeisterData {
     @ColumnDefault("0")
     private int negativePoint;
 
-    @Column(columnDefinition = "MEDIUMTEXT")
-    private String pointRawData;
+    @Column(length = 64)
+    private String pointRawDataHash;
 
     @LastModifiedDate
     private LocalDateTime modifiedAt;
 
     @Builder
-    public MeisterData(String studentId, MeisterInfo meisterInfo, float score, String scoreRawData, int positivePoint, int negativePoint, String pointRawData) {
+    public MeisterData(String studentId, MeisterInfo meisterInfo, float score, String scoreRawDataHash, int positivePoint, int negativePoint, String pointRawDataHash) {
         this.studentId = studentId;
         this.meisterInfo = meisterInfo;
         this.score = score;
-        this.scoreRawData = scoreRawData;
+        this.scoreRawDataHash = scoreRawDataHash;
         this.positivePoint = positivePoint;
         this.negativePoint = negativePoint;
-        this.pointRawData = pointRawData;
+        this.pointRawDataHash = pointRawDataHash;
     }
 
     public void setScore(float score) {
         this.score = score;
     }
 
-    public void setScoreRawData(String scoreRawData) {
-        this.scoreRawData = scoreRawData;
+    public void setScoreRawDataHash(String scoreRawDataHash) {
+        this.scoreRawDataHash = scoreRawDataHash;
     }
 
     public void setPositivePoint(int positivePoint) {
@@ -78,8 +79,8 @@ public class MeisterData {
         this.negativePoint = negativePoint;
     }
 
-    public void setPointRawData(String pointRawData) {
-        this.pointRawData = pointRawData;
+    public void setPointRawDataHash(String pointRawDataHash) {
+        this.pointRawDataHash = pointRawDataHash;
     }
 
     public void setModifiedAt(LocalDateTime modifiedAt) {
@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface MeisterDataRepository extends JpaRepository<MeisterData, String> {
+public interface MeisterDataRepository extends JpaRepository<MeisterData, String>, MeisterDataRepositoryCustom {
 
     Optional<MeisterData> findByStudentIdAndModifiedAtGreaterThan(String studentId, LocalDateTime today);
 
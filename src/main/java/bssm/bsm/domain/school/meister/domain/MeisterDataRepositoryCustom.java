@@ -0,0 +1,8 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import java.util.List;
+
+public interface MeisterDataRepositoryCustom {
+
+    void upsertAll(List<MeisterData> meisterDataList);
+}
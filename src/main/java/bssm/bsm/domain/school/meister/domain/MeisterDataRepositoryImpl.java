@@ -0,0 +1,40 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MeisterDataRepositoryImpl implements MeisterDataRepositoryCustom {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 크롤링한 엔티티는 준영속 상태라 saveAll은 행마다 SELECT를 하므로 JDBC 배치로 처리
+    @Override
+    public void upsertAll(List<MeisterData> meisterDataList) {
+        if (meisterDataList.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO meister_data (student_id, meister_id, score, score_raw_data_hash, positive_point, negative_point, point_raw_data_hash, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE score = VALUES(score), score_raw_data_hash = VALUES(score_raw_data_hash), " +
+                        "positive_point = VALUES(positive_point), negative_point = VALUES(negative_point), " +
+                        "point_raw_data_hash = VALUES(point_raw_data_hash), modified_at = VALUES(modified_at)",
+                meisterDataList,
+                BATCH_SIZE,
+                (ps, meisterData) -> {
+                    ps.setString(1, meisterData.getStudentId());
+                    ps.setString(2, meisterData.getMeisterInfo().getStudentId());
+                    ps.setFloat(3, meisterData.getScore());
+                    ps.setString(4, meisterData.getScoreRawDataHash());
+                    ps.setInt(5, meisterData.getPositivePoint());
+                    ps.setInt(6, meisterData.getNegativePoint());
+                    ps.setString(7, meisterData.getPointRawDataHash());
+                    ps.setTimestamp(8, meisterData.getModifiedAt() == null ? null : Timestamp.valueOf(meisterData.getModifiedAt()));
+                }
+        );
+    }
+}
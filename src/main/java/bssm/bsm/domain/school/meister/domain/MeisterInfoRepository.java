@@ -2,4 +2,4 @@ package bssm.bsm.domain.school.meister.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface MeisterInfoRepository extends JpaRepository<MeisterInfo, String> {}
+public interface MeisterInfoRepository extends JpaRepository<MeisterInfo, String>, MeisterInfoRepositoryCustom {}
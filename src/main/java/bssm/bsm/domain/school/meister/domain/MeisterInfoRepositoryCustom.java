@@ -0,0 +1,8 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import java.util.List;
+
+public interface MeisterInfoRepositoryCustom {
+
+    void updateLoginErrorAll(List<MeisterInfo> meisterInfoList);
+}
@@ -0,0 +1,29 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MeisterInfoRepositoryImpl implements MeisterInfoRepositoryCustom {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 크롤링 중에는 로그인 오류 여부만 바뀌므로 공개 설정은 덮어쓰지 않음
+    @Override
+    public void updateLoginErrorAll(List<MeisterInfo> meisterInfoList) {
+        if (meisterInfoList.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "UPDATE meister_info SET login_error = ? WHERE student_id = ?",
+                meisterInfoList,
+                BATCH_SIZE,
+                (ps, meisterInfo) -> {
+                    ps.setBoolean(1, meisterInfo.isLoginError());
+                    ps.setString(2, meisterInfo.getStudentId());
+                }
+        );
+    }
+}
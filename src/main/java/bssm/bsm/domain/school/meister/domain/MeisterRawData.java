@@ -0,0 +1,28 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 마이스터 인증제 원본 HTML, 내용의 SHA-256 해시를 키로 gzip 압축해서 저장
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeisterRawData {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+}
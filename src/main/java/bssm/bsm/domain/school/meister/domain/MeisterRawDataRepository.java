@@ -0,0 +1,24 @@
+package bssm.bsm.domain.school.meister.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MeisterRawDataRepository extends JpaRepository<MeisterRawData, String> {
+
+    // 같은 내용이 이미 저장되어 있으면 무시
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT IGNORE INTO meister_raw_data (hash, content, created_at) VALUES (:hash, :content, NOW())")
+    int insertIfAbsent(@Param("hash") String hash, @Param("content") byte[] content);
+
+    // 저장 직후 아직 MeisterData에 반영되지 않은 원본은 지우지 않도록 하루가 지난 것만 삭제
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE r FROM meister_raw_data r " +
+            "WHERE r.created_at < NOW() - INTERVAL 1 DAY " +
+            "AND NOT EXISTS (SELECT 1 FROM meister_data d WHERE d.score_raw_data_hash = r.hash OR d.point_raw_data_hash = r.hash)")
+    int deleteUnreferenced();
+}
@@ -1,6 +1,7 @@
 package bssm.bsm.domain.school.meister.presentation;
 
 import bssm.bsm.domain.school.meister.service.MeisterRankingService;
+import bssm.bsm.domain.school.meister.service.MeisterRankingSnapshot;
 import bssm.bsm.domain.school.meister.presentation.dto.request.UpdateMeisterPrivateRequest;
 import bssm.bsm.domain.school.meister.presentation.dto.response.MeisterRankingResponse;
 import bssm.bsm.global.auth.CurrentUser;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,8 +25,12 @@ public class MeisterRankingController {
     private final CurrentUser currentUser;
 
     @GetMapping("ranking/{grade}")
-    public List<MeisterRankingResponse> getRanking(@PathVariable int grade) {
-        return meisterRankingService.getRanking(currentUser.getUser(), grade);
+    public List<MeisterRankingResponse> getRanking(@PathVariable int grade, WebRequest webRequest) {
+        MeisterRankingSnapshot ranking = meisterRankingService.getRanking(currentUser.getUser(), grade);
+        if (webRequest.checkNotModified(ranking.etag())) {
+            return null;
+        }
+        return ranking.rankingList();
     }
 
     @PutMapping("privateRanking")
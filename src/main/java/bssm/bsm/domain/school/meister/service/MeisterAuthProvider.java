@@ -8,6 +8,7 @@ import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -17,11 +18,12 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class MeisterAuthProvider {
 
-    private final OkHttpClient httpClient;
-    private final String LOGIN_URL = "https://bssm.meistergo.co.kr/inc/common_json.php";
-    private final String LOGOUT_URL = "https://bssm.meistergo.co.kr/logout.php";
+    private final String LOGIN_PATH = "/inc/common_json.php";
+    private final String LOGOUT_PATH = "/logout.php";
+    @Value("${env.meister.url:https://bssm.meistergo.co.kr}")
+    private String MEISTER_URL;
 
-    public void login(Student student, String pw) throws IOException {
+    public void login(OkHttpClient session, Student student, String pw) throws IOException {
         String hakgwa;
         if (student.getGrade() == 1) {
             hakgwa = "공통과정";
@@ -31,7 +33,7 @@ public class MeisterAuthProvider {
             hakgwa = "임베디드소프트웨어과";
         }
         Request request = new Request.Builder()
-                .url(LOGIN_URL)
+                .url(MEISTER_URL + LOGIN_PATH)
                 .post(new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
                         .addFormDataPart("caseBy", "login")
@@ -44,8 +46,11 @@ public class MeisterAuthProvider {
                         .build())
                 .build();
 
-        Response response = httpClient.newCall(request).execute();
-        if (!Objects.requireNonNull(response.body()).string().equals("true")) {
+        String result;
+        try (Response response = session.newCall(request).execute()) {
+            result = Objects.requireNonNull(response.body()).string();
+        }
+        if (!result.equals("true")) {
             throw new BadRequestException(ImmutableMap.<String, String>builder().
                     put("pw", "비밀번호가 맞지 않습니다. 다른 비밀번호로 시도해 보세요").
                     build()
@@ -53,13 +58,12 @@ public class MeisterAuthProvider {
         }
     }
 
-    public void logout() throws IOException {
-        httpClient.newCall(
-                new Request.Builder()
-                        .url(LOGOUT_URL)
-                        .get()
-                        .build()
-        ).execute();
+    public void logout(OkHttpClient session) throws IOException {
+        Request request = new Request.Builder()
+                .url(MEISTER_URL + LOGOUT_PATH)
+                .get()
+                .build();
+        session.newCall(request).execute().close();
     }
 
 }
@@ -0,0 +1,186 @@
+package bssm.bsm.domain.school.meister.service;
+
+import bssm.bsm.domain.school.meister.domain.MeisterData;
+import bssm.bsm.domain.school.meister.domain.MeisterDataRepository;
+import bssm.bsm.domain.school.meister.domain.MeisterInfo;
+import bssm.bsm.domain.school.meister.domain.MeisterInfoRepository;
+import bssm.bsm.domain.user.domain.Student;
+import bssm.bsm.domain.user.domain.repository.StudentRepository;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeisterCrawler {
+
+    // 학생 한 명당 로그인, 점수, 상벌점, 로그아웃 요청
+    private static final int REQUESTS_PER_STUDENT = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 2000;
+    private static final int SAVE_BATCH_SIZE = 50;
+
+    private final StudentRepository studentRepository;
+    private final MeisterDataRepository meisterDataRepository;
+    private final MeisterInfoRepository meisterInfoRepository;
+    private final MeisterDataProvider meisterDataProvider;
+    private final MeisterRankingProvider meisterRankingProvider;
+    private final MeisterRawDataProvider meisterRawDataProvider;
+    private final MeterRegistry meterRegistry;
+
+    // 마이스터 인증제 서버에 보내는 초당 요청 수
+    @Value("${env.meister.crawler.rate:4}")
+    private double REQUESTS_PER_SECOND;
+    @Value("${env.meister.crawler.concurrency:3}")
+    private int CONCURRENCY;
+
+    private ExecutorService executor;
+    private RateLimiter rateLimiter;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger remainingStudents = new AtomicInteger(0);
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter droppedCounter;
+    private Timer crawlTimer;
+
+    private final List<MeisterData> pendingDataList = new ArrayList<>();
+    private final List<MeisterInfo> pendingInfoList = new ArrayList<>();
+
+    @PostConstruct
+    private void init() {
+        executor = Executors.newFixedThreadPool(CONCURRENCY, new ThreadFactoryBuilder()
+                .setNameFormat("meister-crawler-%d")
+                .build());
+        rateLimiter = RateLimiter.create(REQUESTS_PER_SECOND);
+        successCounter = Counter.builder("meister.crawl.students").tag("result", "success").register(meterRegistry);
+        failureCounter = Counter.builder("meister.crawl.students").tag("result", "failure").register(meterRegistry);
+        droppedCounter = Counter.builder("meister.crawl.students").tag("result", "dropped").register(meterRegistry);
+        crawlTimer = Timer.builder("meister.crawl.duration").register(meterRegistry);
+        meterRegistry.gauge("meister.crawl.remaining", remainingStudents);
+    }
+
+    @PreDestroy
+    private void destroy() {
+        executor.shutdownNow();
+    }
+
+    // 전체 재학생의 정보를 백그라운드에서 업데이트, 이미 진행 중이면 무시
+    public CompletableFuture<Void> crawlAllStudents() {
+        if (!running.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            List<Student> studentList = studentRepository.findByGradeNot(0);
+            Map<String, MeisterData> meisterDataMap = meisterDataRepository.findAll().stream()
+                    .collect(Collectors.toMap(MeisterData::getStudentId, Function.identity()));
+            remainingStudents.set(studentList.size());
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            CompletableFuture<?>[] futures = studentList.stream()
+                    .map(student -> CompletableFuture.runAsync(
+                            () -> crawl(student, meisterDataMap.get(student.getStudentId())),
+                            executor))
+                    .toArray(CompletableFuture[]::new);
+
+            return CompletableFuture.allOf(futures)
+                    .whenComplete((result, e) -> {
+                        // 저장이나 캐시 제거에 실패해도 다음 크롤링은 진행되어야 함
+                        try {
+                            flush();
+                            meisterRankingProvider.evictAllRanking();
+                            meisterRawDataProvider.deleteUnreferencedRawData();
+                        } catch (RuntimeException ex) {
+                            log.error("마이스터 크롤링 마무리 실패", ex);
+                        } finally {
+                            sample.stop(crawlTimer);
+                            running.set(false);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void crawl(Student student, MeisterData nullableMeisterData) {
+        try {
+            // 이미 정보가 저장되어있는 학생이 아니면 새로 생성
+            MeisterData meisterData = nullableMeisterData != null
+                    ? nullableMeisterData
+                    : meisterDataProvider.findOrElseCreateMeisterData(student);
+            meisterData.getMeisterInfo().setStudent(student);
+
+            boolean infoChanged = crawlWithRetry(meisterData);
+            addPending(meisterData, infoChanged);
+            successCounter.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failureCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("마이스터 정보 크롤링 실패: {}", student.getStudentId(), e);
+            failureCounter.increment();
+        } finally {
+            remainingStudents.decrementAndGet();
+        }
+    }
+
+    private boolean crawlWithRetry(MeisterData meisterData) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire(REQUESTS_PER_STUDENT);
+            try {
+                return meisterDataProvider.updateMeisterData(meisterData);
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            }
+        }
+    }
+
+    private synchronized void addPending(MeisterData meisterData, boolean infoChanged) {
+        pendingDataList.add(meisterData);
+        if (infoChanged) {
+            pendingInfoList.add(meisterData.getMeisterInfo());
+        }
+        if (pendingDataList.size() >= SAVE_BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    // 실패한 묶음은 버리고 다음 묶음부터 다시 저장, 버린 학생은 다음 크롤링에서 다시 반영됨
+    private synchronized void flush() {
+        try {
+            meisterInfoRepository.updateLoginErrorAll(pendingInfoList);
+            meisterDataRepository.upsertAll(pendingDataList);
+        } catch (RuntimeException e) {
+            List<String> studentIdList = pendingDataList.stream()
+                    .map(MeisterData::getStudentId)
+                    .toList();
+            log.error("마이스터 정보 저장 실패, 버려진 학생: {}", studentIdList, e);
+            droppedCounter.increment(studentIdList.size());
+        } finally {
+            pendingInfoList.clear();
+            pendingDataList.clear();
+        }
+    }
+
+}
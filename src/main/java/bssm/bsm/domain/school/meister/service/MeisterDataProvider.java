@@ -10,6 +10,7 @@ import bssm.bsm.global.error.HttpException;
 import bssm.bsm.global.error.exceptions.BadRequestException;
 import bssm.bsm.global.error.exceptions.InternalServerException;
 import lombok.RequiredArgsConstructor;
+import okhttp3.OkHttpClient;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -23,6 +24,9 @@ public class MeisterDataProvider {
     private final MeisterDataRepository meisterDataRepository;
     private final MeisterParsingProvider meisterProvider;
     private final MeisterAuthProvider meisterAuthProvider;
+    private final MeisterSessionProvider meisterSessionProvider;
+    private final MeisterRawDataProvider meisterRawDataProvider;
+    private final MeisterRankingProvider meisterRankingProvider;
 
     public MeisterData findOrElseCreateMeisterData(Student student) {
         return meisterDataRepository.findById(student.getStudentId()).orElseGet(
@@ -42,24 +46,34 @@ public class MeisterDataProvider {
     }
 
     public MeisterData getAndUpdateMeisterData(MeisterData meisterData) {
+        if (updateMeisterData(meisterData)) {
+            meisterInfoRepository.save(meisterData.getMeisterInfo());
+        }
+        MeisterData savedMeisterData = meisterDataRepository.save(meisterData);
+        meisterRankingProvider.evictRanking(meisterData.getMeisterInfo().getStudent());
+        return savedMeisterData;
+    }
+
+    // 마이스터 인증제 서버에서 정보를 가져와 반영만 하고 저장은 하지 않음, MeisterInfo도 저장해야 하면 true
+    public boolean updateMeisterData(MeisterData meisterData) {
         MeisterInfo meisterInfo = meisterData.getMeisterInfo();
+        OkHttpClient session = meisterSessionProvider.createSession();
 
         MeisterDetailResponse responseDto;
         try {
             meisterData.setModifiedAt(LocalDateTime.now());
-            meisterAuthProvider.login(meisterInfo.getStudent(), meisterInfo.getStudentId());
-            responseDto = meisterProvider.getAllInfo(meisterInfo.getStudent());
+            meisterAuthProvider.login(session, meisterInfo.getStudent(), meisterInfo.getStudentId());
+            responseDto = meisterProvider.getAllInfo(session, meisterInfo.getStudent());
         } catch (BadRequestException e) {
             try {
                 meisterInfo.setLoginError(true);
-                responseDto = meisterProvider.getScoreInfo(meisterInfo.getStudent());
+                responseDto = meisterProvider.getScoreInfo(session, meisterInfo.getStudent());
                 meisterData.setScore(responseDto.getScore());
-                meisterData.setScoreRawData(responseDto.getScoreHtmlContent());
+                meisterRawDataProvider.updateScoreRawData(meisterData, responseDto.getScoreHtmlContent());
             } catch (IOException ex) {
                 ex.printStackTrace();
             }
-            meisterInfoRepository.save(meisterInfo);
-            return meisterDataRepository.save(meisterData);
+            return true;
         } catch (HttpException e) {
             e.printStackTrace();
             throw e;
@@ -67,17 +81,16 @@ public class MeisterDataProvider {
             throw new InternalServerException();
         }
 
-        if (meisterInfo.isLoginError()) {
+        boolean infoChanged = meisterInfo.isLoginError();
+        if (infoChanged) {
             meisterInfo.setLoginError(false);
-            meisterInfoRepository.save(meisterInfo);
         }
         meisterData.setScore(responseDto.getScore());
-        meisterData.setScoreRawData(responseDto.getScoreHtmlContent());
+        meisterRawDataProvider.updateScoreRawData(meisterData, responseDto.getScoreHtmlContent());
         meisterData.setPositivePoint(responseDto.getPositivePoint());
         meisterData.setNegativePoint(responseDto.getNegativePoint());
-        meisterData.setPointRawData(responseDto.getPointHtmlContent());
-
-        return meisterDataRepository.save(meisterData);
+        meisterRawDataProvider.updatePointRawData(meisterData, responseDto.getPointHtmlContent());
+        return infoChanged;
     }
 
 }
@@ -0,0 +1,39 @@
+package bssm.bsm.domain.school.meister.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class MeisterHtmlParser {
+
+    private static final Pattern SCORE_PATTERN = Pattern.compile("<td>([\\d.]*)</td>");
+    private static final Pattern POSITIVE_POINT_PATTERN = Pattern.compile("\\(상점 : (\\d*)");
+    private static final Pattern NEGATIVE_POINT_PATTERN = Pattern.compile("\\(벌점 : (\\d*)");
+
+    private MeisterHtmlParser() {}
+
+    // 첫 번째 칸이 비어 있으면 다음 칸으로 넘어가지 않고 0으로 처리
+    public static float parseScore(String scoreHtmlContent) {
+        Matcher matcher = SCORE_PATTERN.matcher(scoreHtmlContent);
+        if (!matcher.find() || matcher.group(1).isEmpty()) {
+            return 0;
+        }
+        return Float.parseFloat(matcher.group(1));
+    }
+
+    public static int parsePositivePoint(String pointHtmlContent) {
+        return sumPoint(POSITIVE_POINT_PATTERN.matcher(pointHtmlContent));
+    }
+
+    public static int parseNegativePoint(String pointHtmlContent) {
+        return sumPoint(NEGATIVE_POINT_PATTERN.matcher(pointHtmlContent));
+    }
+
+    private static int sumPoint(Matcher matcher) {
+        int sum = 0;
+        while (matcher.find()) {
+            if (matcher.group(1).isEmpty()) continue;
+            sum += Integer.parseInt(matcher.group(1));
+        }
+        return sum;
+    }
+}
@@ -7,73 +7,49 @@ import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 public class MeisterParsingProvider {
 
-    private final OkHttpClient httpClient;
-    private final String GET_SCORE_URL = "https://bssm.meistergo.co.kr/_suCert/bssm/B002/jnv_201j.php";
-    private final String GET_POINT_URL = "https://bssm.meistergo.co.kr/ss/ss_a40j.php";
+    private final String GET_SCORE_PATH = "/_suCert/bssm/B002/jnv_201j.php";
+    private final String GET_POINT_PATH = "/ss/ss_a40j.php";
+    @Value("${env.meister.url:https://bssm.meistergo.co.kr}")
+    private String MEISTER_URL;
     private final MeisterAuthProvider meisterAuthProvider;
 
-    public MeisterDetailResponse getAllInfo(Student student) throws IOException {
-        String scoreHtmlContent = getScore(student);
-        String pointHtmlContent = getPoint();
+    public MeisterDetailResponse getAllInfo(OkHttpClient session, Student student) throws IOException {
+        String scoreHtmlContent = getScore(session, student);
+        String pointHtmlContent = getPoint(session);
 
-        float score = 0;
-        int positivePoint = 0;
-        int negativePoint = 0;
-
-        Matcher scoreMatch = Pattern.compile("<td>[\\d.]*<\\/td>").matcher(scoreHtmlContent);
-        Matcher positiveMatch = Pattern.compile("(\\(상점 : [0-9]*)").matcher(pointHtmlContent);
-        Matcher negativeMatch = Pattern.compile("(\\(벌점 : [0-9]*)").matcher(pointHtmlContent);
-
-        if (scoreMatch.find()) {
-            score = Float.parseFloat(scoreMatch.group().split("<")[1].substring(3));
-        }
-        while (positiveMatch.find()) {
-            positivePoint += Integer.parseInt(positiveMatch.group().split(" ")[2]);
-        }
-        while (negativeMatch.find()) {
-            negativePoint += Integer.parseInt(negativeMatch.group().split(" ")[2]);
-        }
-
-        meisterAuthProvider.logout();
+        meisterAuthProvider.logout(session);
         return MeisterDetailResponse.builder()
                 .scoreHtmlContent(scoreHtmlContent)
                 .pointHtmlContent(pointHtmlContent)
-                .score(score)
-                .positivePoint(positivePoint)
-                .negativePoint(negativePoint)
+                .score(MeisterHtmlParser.parseScore(scoreHtmlContent))
+                .positivePoint(MeisterHtmlParser.parsePositivePoint(pointHtmlContent))
+                .negativePoint(MeisterHtmlParser.parseNegativePoint(pointHtmlContent))
                 .build();
     }
 
-    public MeisterDetailResponse getScoreInfo(Student student) throws IOException {
-        String scoreHtmlContent = getScore(student);
-        float score = 0;
-
-        Matcher scoreMatch = Pattern.compile("<td>[\\d.]*<\\/td>").matcher(scoreHtmlContent);
-        if (scoreMatch.find()) {
-            score = Float.parseFloat(scoreMatch.group().split("<")[1].substring(3));
-        }
+    public MeisterDetailResponse getScoreInfo(OkHttpClient session, Student student) throws IOException {
+        String scoreHtmlContent = getScore(session, student);
         return MeisterDetailResponse.builder()
                 .scoreHtmlContent(scoreHtmlContent)
-                .score(score)
+                .score(MeisterHtmlParser.parseScore(scoreHtmlContent))
                 .positivePoint(0)
                 .negativePoint(0)
                 .build();
     }
 
-    public String getScore(Student student) throws IOException {
+    public String getScore(OkHttpClient session, Student student) throws IOException {
         Request request = new Request.Builder()
-                .url(GET_SCORE_URL)
+                .url(MEISTER_URL + GET_SCORE_PATH)
                 .post(new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
                         .addFormDataPart("caseBy", "getViewer")
@@ -82,13 +58,14 @@ public class MeisterParsingProvider {
                 )
                 .build();
 
-        Response response = httpClient.newCall(request).execute();
-        return Objects.requireNonNull(response.body()).string();
+        try (Response response = session.newCall(request).execute()) {
+            return Objects.requireNonNull(response.body()).string();
+        }
     }
 
-    public String getPoint() throws IOException {
+    public String getPoint(OkHttpClient session) throws IOException {
         Request request = new Request.Builder()
-                .url(GET_POINT_URL)
+                .url(MEISTER_URL + GET_POINT_PATH)
                 .post(new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
                         .addFormDataPart("caseBy", "listview")
@@ -98,8 +75,9 @@ public class MeisterParsingProvider {
                 )
                 .build();
 
-        Response response = httpClient.newCall(request).execute();
-        return Objects.requireNonNull(response.body()).string();
+        try (Response response = session.newCall(request).execute()) {
+            return Objects.requireNonNull(response.body()).string();
+        }
     }
 
 }
@@ -0,0 +1,132 @@
+package bssm.bsm.domain.school.meister.service;
+
+import bssm.bsm.domain.school.meister.domain.MeisterData;
+import bssm.bsm.domain.school.meister.domain.MeisterDataRepository;
+import bssm.bsm.domain.school.meister.domain.MeisterInfo;
+import bssm.bsm.domain.school.meister.domain.MeisterInfoResultType;
+import bssm.bsm.domain.school.meister.presentation.dto.response.MeisterRankingResponse;
+import bssm.bsm.domain.school.meister.presentation.dto.response.MeisterStudentResponse;
+import bssm.bsm.domain.user.domain.Student;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class MeisterRankingProvider {
+
+    private static final String MEISTER_RANKING_CHANNEL = "meister-ranking:invalidate";
+    private static final String ALL_GRADE = "all";
+
+    private final MeisterDataRepository meisterDataRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 학년별 랭킹, 비공개 학생의 정보는 미리 가려둠
+    private LoadingCache<Integer, MeisterRankingSnapshot> rankingCache;
+
+    @PostConstruct
+    private void init() {
+        rankingCache = CacheBuilder.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build(CacheLoader.from(this::loadRanking));
+
+        // 다른 서버에서 정보가 바뀌면 해당 학년의 랭킹을 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MEISTER_RANKING_CHANNEL)
+        );
+    }
+
+    public MeisterRankingSnapshot findRanking(int grade) {
+        return rankingCache.getUnchecked(grade);
+    }
+
+    public void evictRanking(Student nullableStudent) {
+        if (nullableStudent == null) {
+            evictAllRanking();
+            return;
+        }
+        String grade = String.valueOf(nullableStudent.getGrade());
+        invalidate(grade);
+        redisTemplate.convertAndSend(MEISTER_RANKING_CHANNEL, grade);
+    }
+
+    public void evictAllRanking() {
+        invalidate(ALL_GRADE);
+        redisTemplate.convertAndSend(MEISTER_RANKING_CHANNEL, ALL_GRADE);
+    }
+
+    private void invalidate(String grade) {
+        if (grade.equals(ALL_GRADE)) {
+            rankingCache.invalidateAll();
+            return;
+        }
+        rankingCache.invalidate(Integer.parseInt(grade));
+    }
+
+    private MeisterRankingSnapshot loadRanking(int grade) {
+        List<MeisterRankingResponse> rankingList = meisterDataRepository.findByMeisterInfoStudentGradeOrderByScoreDesc(grade).stream()
+                .map(this::toRankingResponse)
+                .sorted(MeisterRankingResponse::compareTo)
+                .toList();
+
+        // 내용이 같으면 서버가 달라도 같은 ETag가 나오도록 내용으로 해시
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        rankingList.forEach(ranking -> hasher
+                .putString(Objects.toString(ranking.getStudent().getName()), StandardCharsets.UTF_8)
+                .putInt(ranking.getStudent().getClassNo())
+                .putInt(ranking.getStudent().getStudentNo())
+                .putString(ranking.getResult().name(), StandardCharsets.UTF_8)
+                .putString(Objects.toString(ranking.getScore()), StandardCharsets.UTF_8)
+                .putString(Objects.toString(ranking.getPositivePoint()), StandardCharsets.UTF_8)
+                .putString(Objects.toString(ranking.getNegativePoint()), StandardCharsets.UTF_8)
+                .putString(Objects.toString(ranking.getLastUpdate()), StandardCharsets.UTF_8));
+        return new MeisterRankingSnapshot(rankingList, "\"" + hasher.hash() + "\"");
+    }
+
+    private MeisterRankingResponse toRankingResponse(MeisterData meisterData) {
+        Student student = meisterData.getMeisterInfo().getStudent();
+        MeisterRankingResponse.MeisterRankingResponseBuilder builder = MeisterRankingResponse.builder()
+                .student(MeisterStudentResponse.builder()
+                        .grade(student.getGrade())
+                        .classNo(student.getClassNo())
+                        .studentNo(student.getStudentNo())
+                        .name(student.getName())
+                        .build()
+                )
+                .result(convertResult(meisterData.getMeisterInfo()));
+
+        if (meisterData.getMeisterInfo().isPrivateRanking()) {
+            return builder.build();
+        }
+
+        return builder
+                .score(meisterData.getScore())
+                .positivePoint(meisterData.getPositivePoint())
+                .negativePoint(meisterData.getNegativePoint())
+                .lastUpdate(meisterData.getModifiedAt())
+                .build();
+    }
+
+    private MeisterInfoResultType convertResult(MeisterInfo meisterInfo) {
+        if (meisterInfo.isPrivateRanking()) return MeisterInfoResultType.PRIVATE;
+        if (meisterInfo.isLoginError()) return MeisterInfoResultType.LOGIN_ERROR;
+        return MeisterInfoResultType.SUCCESS;
+    }
+
+}
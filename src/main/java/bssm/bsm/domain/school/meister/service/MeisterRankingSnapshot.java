@@ -0,0 +1,7 @@
+package bssm.bsm.domain.school.meister.service;
+
+import bssm.bsm.domain.school.meister.presentation.dto.response.MeisterRankingResponse;
+
+import java.util.List;
+
+public record MeisterRankingSnapshot(List<MeisterRankingResponse> rankingList, String etag) {}
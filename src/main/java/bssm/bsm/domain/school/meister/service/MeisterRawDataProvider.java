@@ -0,0 +1,59 @@
+package bssm.bsm.domain.school.meister.service;
+
+import bssm.bsm.domain.school.meister.domain.MeisterData;
+import bssm.bsm.domain.school.meister.domain.MeisterRawDataRepository;
+import bssm.bsm.global.error.exceptions.InternalServerException;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@RequiredArgsConstructor
+public class MeisterRawDataProvider {
+
+    private final MeisterRawDataRepository meisterRawDataRepository;
+
+    // 더 이상 어떤 학생도 참조하지 않는 원본 삭제
+    public int deleteUnreferencedRawData() {
+        return meisterRawDataRepository.deleteUnreferenced();
+    }
+
+    public void updateScoreRawData(MeisterData meisterData, String scoreHtmlContent) {
+        String hash = archive(meisterData.getScoreRawDataHash(), scoreHtmlContent);
+        meisterData.setScoreRawDataHash(hash);
+    }
+
+    public void updatePointRawData(MeisterData meisterData, String pointHtmlContent) {
+        String hash = archive(meisterData.getPointRawDataHash(), pointHtmlContent);
+        meisterData.setPointRawDataHash(hash);
+    }
+
+    // 내용이 바뀌었을 때만 압축해서 저장
+    private String archive(String prevHash, String htmlContent) {
+        if (htmlContent == null) return prevHash;
+
+        String hash = Hashing.sha256().hashString(htmlContent, StandardCharsets.UTF_8).toString();
+        if (!Objects.equals(hash, prevHash)) {
+            meisterRawDataRepository.insertIfAbsent(hash, compress(htmlContent));
+        }
+        return hash;
+    }
+
+    private byte[] compress(String content) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new InternalServerException();
+        }
+        return outputStream.toByteArray();
+    }
+
+}
@@ -13,6 +13,7 @@ import bssm.bsm.domain.school.meister.presentation.dto.response.MeisterResponse;
 import bssm.bsm.domain.school.meister.domain.MeisterInfoRepository;
 import bssm.bsm.global.error.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import okhttp3.OkHttpClient;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -29,6 +30,9 @@ public class MeisterService {
     private final MeisterParsingProvider meisterProvider;
     private final MeisterAuthProvider meisterAuthProvider;
     private final MeisterDataProvider meisterDataProvider;
+    private final MeisterSessionProvider meisterSessionProvider;
+    private final MeisterRawDataProvider meisterRawDataProvider;
+    private final MeisterRankingProvider meisterRankingProvider;
     private final MeisterInfoFacade meisterInfoFacade;
 
     public MeisterDetailResponse getDetail(User user, MeisterDetailRequest dto) throws IOException {
@@ -40,8 +44,9 @@ public class MeisterService {
         MeisterInfo meisterInfo = meisterData.getMeisterInfo();
         meisterInfo.privateCheck(user);
 
-        meisterAuthProvider.login(student, dto.getPw().isEmpty()? student.getStudentId(): dto.getPw());
-        MeisterDetailResponse detailInfo = meisterProvider.getAllInfo(student);
+        OkHttpClient session = meisterSessionProvider.createSession();
+        meisterAuthProvider.login(session, student, dto.getPw().isEmpty()? student.getStudentId(): dto.getPw());
+        MeisterDetailResponse detailInfo = meisterProvider.getAllInfo(session, student);
 
         if (meisterInfo.isLoginError()) {
             meisterInfo.setLoginError(false);
@@ -50,12 +55,13 @@ public class MeisterService {
 
         meisterData.setModifiedAt(LocalDateTime.now());
         meisterData.setScore(detailInfo.getScore());
-        meisterData.setScoreRawData(detailInfo.getScoreHtmlContent());
+        meisterRawDataProvider.updateScoreRawData(meisterData, detailInfo.getScoreHtmlContent());
         meisterData.setPositivePoint(detailInfo.getPositivePoint());
         meisterData.setNegativePoint(detailInfo.getNegativePoint());
-        meisterData.setPointRawData(detailInfo.getPointHtmlContent());
+        meisterRawDataProvider.updatePointRawData(meisterData, detailInfo.getPointHtmlContent());
 
         meisterDataRepository.save(meisterData);
+        meisterRankingProvider.evictRanking(student);
         return detailInfo;
     }
 
@@ -0,0 +1,21 @@
+package bssm.bsm.domain.school.meister.service;
+
+import bssm.bsm.global.utils.HostCookieJar;
+import lombok.RequiredArgsConstructor;
+import okhttp3.OkHttpClient;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MeisterSessionProvider {
+
+    private final OkHttpClient httpClient;
+
+    // 학생마다 로그인 세션 쿠키가 섞이지 않도록 작업별로 쿠키 저장소를 분리
+    // 커넥션 풀과 디스패처는 공유
+    public OkHttpClient createSession() {
+        return httpClient.newBuilder()
+                .cookieJar(new HostCookieJar())
+                .build();
+    }
+}
@@ -8,7 +8,6 @@ import bssm.bsm.domain.school.timetable.presentation.dto.req.UpdateTimetableReq;
 import bssm.bsm.domain.school.timetable.presentation.dto.res.TimetableListRes;
 import bssm.bsm.domain.school.timetable.presentation.dto.res.TimetableManageRes;
 import bssm.bsm.domain.school.timetable.service.TimetableManageService;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -50,7 +49,7 @@ public class TimetableManageController {
     }
 
     @PutMapping("apply")
-    public void applyTimetable(@RequestBody ApplyTimetableReq req) throws JsonProcessingException {
+    public void applyTimetable(@RequestBody ApplyTimetableReq req) {
         timetableManageService.applyTimetable(req);
     }
 
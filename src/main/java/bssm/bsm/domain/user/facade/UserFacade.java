@@ -1,27 +1,51 @@
 package bssm.bsm.domain.user.facade;
 
-import bssm.bsm.domain.auth.exception.NoSuchRefreshTokenException;
 import bssm.bsm.domain.user.domain.Student;
-import bssm.bsm.domain.auth.domain.repository.RefreshTokenRepository;
 import bssm.bsm.domain.user.domain.UserCache;
 import bssm.bsm.domain.user.domain.repository.StudentRepository;
 import bssm.bsm.domain.user.domain.repository.RedisUserRepository;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.user.domain.repository.UserRepository;
 import bssm.bsm.domain.user.exception.NoSuchUserException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class UserFacade {
 
+    private static final String USER_CACHE_CHANNEL = "user-cache:invalidate";
+
     private final UserRepository userRepository;
     private final RedisUserRepository userRedisRepository;
     private final StudentRepository studentRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // Redis 유저 캐시 앞에 두는 서버 로컬 캐시
+    private final Cache<Long, UserCache> localUserCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    private void init() {
+        // 다른 서버에서 유저 캐시가 갱신되면 로컬 캐시에서 제거
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> localUserCache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(USER_CACHE_CHANNEL)
+        );
+    }
 
     public List<User> findAllByGradeAndClassNo(int grade, int classNo) {
         return studentRepository.findAllByGradeAndClassNo(grade, classNo).stream()
@@ -29,12 +53,6 @@ public class UserFacade {
                 .toList();
     }
 
-    public User findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByTokenAndIsAvailable(refreshToken, true)
-                .orElseThrow(NoSuchRefreshTokenException::new)
-                .getUser();
-    }
-
     public User findByCode(long userCode) {
         return userRepository.findById(userCode)
                 .orElseThrow(NoSuchUserException::new);
@@ -46,13 +64,19 @@ public class UserFacade {
     }
 
     public User findCachedUserByCode(long userCode) {
-        UserCache userCache = userRedisRepository.findById(userCode)
-                .orElseGet(() -> findAndSaveUserCache(userCode));
+        UserCache userCache = localUserCache.getIfPresent(userCode);
+        if (userCache == null) {
+            userCache = userRedisRepository.findById(userCode)
+                    .orElseGet(() -> findAndSaveUserCache(userCode));
+            localUserCache.put(userCode, userCache);
+        }
         return User.ofCache(userCache);
     }
 
     public void saveUserCache(User user) {
         userRedisRepository.save(UserCache.ofUser(user));
+        localUserCache.invalidate(user.getCode());
+        redisTemplate.convertAndSend(USER_CACHE_CHANNEL, String.valueOf(user.getCode()));
     }
 
     private UserCache findAndSaveUserCache(long userCode) {
@@ -1,6 +1,5 @@
 package bssm.bsm.domain.user.presentation.dto.res;
 
-import bssm.bsm.domain.board.anonymous.domain.AnonymousKeyType;
 import bssm.bsm.domain.board.anonymous.service.AnonymousUserIdProvider;
 import bssm.bsm.domain.board.comment.domain.Comment;
 import bssm.bsm.domain.board.post.domain.Post;
@@ -17,15 +16,19 @@ public class UserRes {
     private String nickname;
 
     public static UserRes create(Post post) {
+        User user = post.getWriter();
+        return create(user.getCode(), user.getNickname(), post.isAnonymous());
+    }
+
+    public static UserRes create(long code, String nickname, boolean anonymous) {
         UserRes userRes = new UserRes();
-        if (post.isAnonymous()) {
+        if (anonymous) {
             userRes.code = -1L;
             userRes.nickname = "ㅇㅇ";
             return userRes;
         }
-        User user = post.getWriter();
-        userRes.code = user.getCode();
-        userRes.nickname = user.getNickname();
+        userRes.code = code;
+        userRes.nickname = nickname;
         return userRes;
     }
 
@@ -41,9 +44,7 @@ public class UserRes {
 
     private static UserRes toAnonymousCommentUserRes(Comment comment, AnonymousUserIdProvider anonymousUserIdProvider) {
         User user = comment.getWriter();
-        Post post = comment.getPost();
-        String sessionId = post.getBoard() + "/" + post.getPk().getId();
-        long anonymousId = anonymousUserIdProvider.getAnonymousId(AnonymousKeyType.COMMENT, sessionId, user);
+        long anonymousId = anonymousUserIdProvider.getAnonymousId(comment.getPost(), user);
 
         UserRes userRes = new UserRes();
         userRes.code = -1L;
@@ -0,0 +1,11 @@
+package bssm.bsm.domain.webpush.domain;
+
+// 알림 전송에 필요한 컬럼만 조회
+public interface WebPushSubscription {
+
+    String getEndpoint();
+
+    String getAuth();
+
+    String getP256dh();
+}
@@ -2,6 +2,8 @@ package bssm.bsm.domain.webpush.domain.repository;
 
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.webpush.domain.WebPush;
+import bssm.bsm.domain.webpush.domain.WebPushSubscription;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,4 +17,6 @@ public interface WebPushRepository extends JpaRepository<WebPush, String> {
 
     List<WebPush> findAllByUserIn(List<User> userList);
 
+    List<WebPushSubscription> findByEndpointGreaterThanOrderByEndpoint(String endpoint, Pageable pageable);
+
 }
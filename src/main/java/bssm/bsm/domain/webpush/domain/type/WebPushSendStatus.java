@@ -0,0 +1,17 @@
+package bssm.bsm.domain.webpush.domain.type;
+
+public enum WebPushSendStatus {
+    SUCCESS,
+    // 잠시 후 다시 보내면 성공할 수 있음
+    RETRYABLE,
+    // 구독이 만료되거나 취소되어 더 이상 보낼 수 없음
+    GONE,
+    FAILURE;
+
+    public static WebPushSendStatus create(int statusCode) {
+        if (statusCode >= 200 && statusCode < 300) return SUCCESS;
+        if (statusCode == 404 || statusCode == 410) return GONE;
+        if (statusCode == 429 || statusCode >= 500) return RETRYABLE;
+        return FAILURE;
+    }
+}
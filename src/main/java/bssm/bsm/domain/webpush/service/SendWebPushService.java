@@ -1,54 +1,292 @@
 package bssm.bsm.domain.webpush.service;
 
 import bssm.bsm.domain.webpush.domain.WebPush;
+import bssm.bsm.domain.webpush.domain.WebPushSubscription;
+import bssm.bsm.domain.webpush.domain.repository.WebPushRepository;
+import bssm.bsm.domain.webpush.domain.type.WebPushSendStatus;
 import bssm.bsm.domain.webpush.presentation.dto.request.WebPushMsgDto;
-import bssm.bsm.global.async.AsyncService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.AtomicDouble;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import nl.martijndwars.webpush.Notification;
 import nl.martijndwars.webpush.PushService;
 import nl.martijndwars.webpush.Subscription;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.jose4j.lang.JoseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SendWebPushService {
 
+    private static final int PAGE_SIZE = 500;
+    private static final int DELETE_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+    private static final long MAX_RETRY_AFTER_MILLIS = 60000;
+
     private final ObjectMapper objectMapper;
     private final PushService pushService;
-    private final AsyncService asyncService;
+    private final WebPushRepository webPushRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 보내는 알림 수
+    @Value("${env.webpush.concurrency:10}")
+    private int CONCURRENCY;
+
+    private ExecutorService executor;
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter goneCounter;
+    private Counter retryCounter;
+    // 전송 작업 한 번당 결과별 알림 수
+    private DistributionSummary runSuccessSummary;
+    private DistributionSummary runFailureSummary;
+    private DistributionSummary runGoneSummary;
+    // 마지막 전송에서 만료된 구독의 비율
+    private final AtomicDouble deadSubscriptionRatio = new AtomicDouble(0);
+
+    @PostConstruct
+    private void init() {
+        executor = Executors.newFixedThreadPool(CONCURRENCY, new ThreadFactoryBuilder()
+                .setNameFormat("webpush-sender-%d")
+                .build());
+        successCounter = Counter.builder("webpush.send").tag("result", "success").register(meterRegistry);
+        failureCounter = Counter.builder("webpush.send").tag("result", "failure").register(meterRegistry);
+        goneCounter = Counter.builder("webpush.send").tag("result", "gone").register(meterRegistry);
+        retryCounter = Counter.builder("webpush.send.retry").register(meterRegistry);
+        runSuccessSummary = DistributionSummary.builder("webpush.run").tag("result", "success").register(meterRegistry);
+        runFailureSummary = DistributionSummary.builder("webpush.run").tag("result", "failure").register(meterRegistry);
+        runGoneSummary = DistributionSummary.builder("webpush.run").tag("result", "gone").register(meterRegistry);
+        meterRegistry.gauge("webpush.dead.ratio", deadSubscriptionRatio, AtomicDouble::get);
+    }
+
+    @PreDestroy
+    private void destroy() {
+        executor.shutdownNow();
+    }
 
+    // 전체 구독을 endpoint 순으로 나눠 읽으면서 전송
     @Async("threadPoolTaskExecutor")
-    public void sendNotification(WebPush webPush, WebPushMsgDto dto) throws Exception {
-        Subscription subscription = toSubscription(webPush);
-        String msg = objectMapper.writeValueAsString(dto);
-        send(subscription, msg);
+    public CompletableFuture<WebPushSendResult> sendNotificationToAll(WebPushMsgDto dto) {
+        SendRun sendRun;
+        try {
+            sendRun = new SendRun(objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            log.error("웹 푸시 메시지 직렬화 실패", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            String lastEndpoint = "";
+            List<WebPushSubscription> subscriptionList;
+            do {
+                subscriptionList = webPushRepository.findByEndpointGreaterThanOrderByEndpoint(lastEndpoint, PageRequest.of(0, PAGE_SIZE));
+                for (WebPushSubscription subscription : subscriptionList) {
+                    sendRun.submit(toSubscription(subscription.getEndpoint(), subscription.getAuth(), subscription.getP256dh()));
+                }
+                if (!subscriptionList.isEmpty()) {
+                    lastEndpoint = subscriptionList.get(subscriptionList.size() - 1).getEndpoint();
+                }
+            } while (subscriptionList.size() == PAGE_SIZE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return CompletableFuture.completedFuture(sendRun.await());
     }
 
     @Async("threadPoolTaskExecutor")
-    public void sendNotificationToAll(List<WebPush> webPushList, WebPushMsgDto dto) throws JsonProcessingException {
-        List<Subscription> subscriptionList = webPushList.stream()
-                .map(this::toSubscription)
-                .toList();
-        String msg = objectMapper.writeValueAsString(dto);
+    public CompletableFuture<WebPushSendResult> sendNotificationToAll(List<WebPush> webPushList, WebPushMsgDto dto) {
+        SendRun sendRun;
+        try {
+            sendRun = new SendRun(objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            log.error("웹 푸시 메시지 직렬화 실패", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            for (WebPush webPush : webPushList) {
+                sendRun.submit(toSubscription(webPush.getEndpoint(), webPush.getAuth(), webPush.getP256dh()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return CompletableFuture.completedFuture(sendRun.await());
+    }
+
+    public WebPushSendStatus send(Subscription subscription, String msg) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            SendAttempt sendAttempt = sendOnce(subscription, msg);
+            if (sendAttempt.status() != WebPushSendStatus.RETRYABLE || attempt >= MAX_ATTEMPTS) return sendAttempt.status();
+
+            // 푸시 서버가 Retry-After로 기다릴 시간을 알려주면 그만큼 대기, 너무 길면 이번 전송은 포기
+            long backoffMillis = Math.max(RETRY_BACKOFF_MILLIS << (attempt - 1), sendAttempt.retryAfterMillis());
+            if (backoffMillis > MAX_RETRY_AFTER_MILLIS) return sendAttempt.status();
+            retryCounter.increment();
+            Thread.sleep(backoffMillis);
+        }
+    }
 
-        subscriptionList.forEach(subscription -> send(subscription, msg));
+    private SendAttempt sendOnce(Subscription subscription, String msg) throws InterruptedException {
+        try {
+            HttpResponse response = pushService.send(new Notification(subscription, msg));
+            WebPushSendStatus status = WebPushSendStatus.create(response.getStatusLine().getStatusCode());
+            return new SendAttempt(status, parseRetryAfterMillis(response.getFirstHeader(HttpHeaders.RETRY_AFTER)));
+        } catch (IOException | ExecutionException e) {
+            return new SendAttempt(WebPushSendStatus.RETRYABLE, 0);
+        } catch (GeneralSecurityException | JoseException e) {
+            return new SendAttempt(WebPushSendStatus.FAILURE, 0);
+        }
     }
 
-    public void send(Subscription subscription, String msg) {
-        asyncService.run(() -> {
+    // Retry-After는 초 단위 숫자 또는 HTTP 날짜
+    private long parseRetryAfterMillis(Header retryAfter) {
+        if (retryAfter == null) return 0;
+        String value = retryAfter.getValue().trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
             try {
-                pushService.send(new Notification(subscription, msg));
-            } catch (Exception ignored) {}
-        });
+                ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(), retryAt).toMillis());
+            } catch (DateTimeParseException ex) {
+                return 0;
+            }
+        }
+    }
+
+    private Subscription toSubscription(String endpoint, String auth, String p256dh) {
+        return new Subscription(endpoint, new Subscription.Keys(p256dh, auth));
     }
 
-    private Subscription toSubscription(WebPush webPush) {
-        return new Subscription(webPush.getEndpoint(), new Subscription.Keys(webPush.getP256dh(), webPush.getAuth()));
+    private record SendAttempt(WebPushSendStatus status, long retryAfterMillis) {}
+
+    // 한 번의 전송 작업, 보내는 중인 알림이 CONCURRENCY개를 넘으면 구독을 더 읽지 않고 대기
+    private class SendRun {
+
+        private final String msg;
+        private final Semaphore semaphore = new Semaphore(CONCURRENCY);
+        private final AtomicInteger successCount = new AtomicInteger(0);
+        private final AtomicInteger failureCount = new AtomicInteger(0);
+        private final AtomicInteger goneCount = new AtomicInteger(0);
+        private final List<String> goneEndpointList = new ArrayList<>();
+
+        private SendRun(String msg) {
+            this.msg = msg;
+        }
+
+        private void submit(Subscription subscription) throws InterruptedException {
+            semaphore.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        record(subscription, send(subscription, msg));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        record(subscription, WebPushSendStatus.FAILURE);
+                    } finally {
+                        semaphore.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                semaphore.release();
+                record(subscription, WebPushSendStatus.FAILURE);
+            }
+        }
+
+        // 다시 보내도 실패한 경우는 실패로 기록
+        private void record(Subscription subscription, WebPushSendStatus status) {
+            switch (status) {
+                case SUCCESS -> {
+                    successCount.incrementAndGet();
+                    successCounter.increment();
+                }
+                case GONE -> {
+                    goneCount.incrementAndGet();
+                    goneCounter.increment();
+                    addGoneEndpoint(subscription.endpoint);
+                }
+                default -> {
+                    failureCount.incrementAndGet();
+                    failureCounter.increment();
+                }
+            }
+        }
+
+        private void addGoneEndpoint(String endpoint) {
+            List<String> deleteEndpointList;
+            synchronized (this) {
+                goneEndpointList.add(endpoint);
+                if (goneEndpointList.size() < DELETE_BATCH_SIZE) return;
+                deleteEndpointList = takeGoneEndpointList();
+            }
+            deleteGoneEndpoint(deleteEndpointList);
+        }
+
+        private synchronized List<String> takeGoneEndpointList() {
+            List<String> endpointList = List.copyOf(goneEndpointList);
+            goneEndpointList.clear();
+            return endpointList;
+        }
+
+        // 만료된 구독은 모아서 한 번에 삭제, 삭제하는 동안 다른 전송 스레드가 기다리지 않도록 잠금 밖에서 실행
+        private void deleteGoneEndpoint(List<String> endpointList) {
+            if (endpointList.isEmpty()) return;
+            try {
+                webPushRepository.deleteAllByIdInBatch(endpointList);
+            } catch (RuntimeException e) {
+                log.error("만료된 웹 푸시 구독 삭제 실패: {}개", endpointList.size(), e);
+            }
+        }
+
+        // 보내는 중인 알림이 모두 끝날 때까지 대기, 중단되면 그때까지의 결과를 반환
+        private WebPushSendResult await() {
+            if (!Thread.currentThread().isInterrupted()) {
+                semaphore.acquireUninterruptibly(CONCURRENCY);
+                semaphore.release(CONCURRENCY);
+            }
+            deleteGoneEndpoint(takeGoneEndpointList());
+
+            int total = successCount.get() + failureCount.get() + goneCount.get();
+            if (total > 0) {
+                deadSubscriptionRatio.set((double) goneCount.get() / total);
+            }
+            WebPushSendResult result = new WebPushSendResult(successCount.get(), failureCount.get(), goneCount.get());
+            runSuccessSummary.record(result.successCount());
+            runFailureSummary.record(result.failureCount());
+            runGoneSummary.record(result.goneCount());
+            log.info("웹 푸시 전송 완료, 성공 {} 실패 {} 만료 {}", result.successCount(), result.failureCount(), result.goneCount());
+            return result;
+        }
     }
 
 }
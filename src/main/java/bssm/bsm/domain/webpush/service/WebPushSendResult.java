@@ -0,0 +1,3 @@
+package bssm.bsm.domain.webpush.service;
+
+public record WebPushSendResult(int successCount, int failureCount, int goneCount) {}
@@ -1,7 +1,8 @@
 package bssm.bsm.global.auth;
 
+import bssm.bsm.domain.auth.facade.RefreshTokenFacade;
+import bssm.bsm.domain.user.exception.NoSuchUserException;
 import bssm.bsm.domain.user.facade.UserFacade;
-import bssm.bsm.global.error.exceptions.UnAuthorizedException;
 import bssm.bsm.global.jwt.JwtProvider;
 import bssm.bsm.global.utils.CookieProvider;
 import bssm.bsm.domain.user.domain.User;
@@ -11,7 +12,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -29,7 +29,7 @@ public class AuthFilter extends OncePerRequestFilter {
     private final UserFacade userFacade;
     private final JwtProvider jwtUtil;
     private final CookieProvider cookieProvider;
-    private final AuthDetailsService authDetailsService;
+    private final RefreshTokenFacade refreshTokenFacade;
 
     @Value("${env.cookie.name.token}")
     private String TOKEN_COOKIE_NAME;
@@ -40,51 +40,56 @@ public class AuthFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
-        try {
-            accessTokenCheck(req);
-        } catch (Exception e) {
-            refreshTokenCheck(req, res);
+        Cookie tokenCookie = cookieProvider.findCookie(req, TOKEN_COOKIE_NAME);
+        // 엑세스 토큰으로 인증에 성공하면 리프레시 토큰은 확인하지 않음
+        if (tokenCookie == null || !authentication(tokenCookie.getValue())) {
+            refreshTokenCheck(req, res, tokenCookie != null);
         }
         filterChain.doFilter(req, res);
     }
 
-    private void authentication(String token) {
-        UserDetails userDetails = authDetailsService.loadUserByUsername(String.valueOf(jwtUtil.getUserCode(token)));
-        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-    }
+    private boolean authentication(String token) {
+        Long userCode = jwtUtil.getUserCodeOrNull(token);
+        if (userCode == null) return false;
 
-    private void accessTokenCheck(HttpServletRequest req) {
-        Cookie tokenCookie = cookieProvider.findCookie(req, TOKEN_COOKIE_NAME);
-        String token = tokenCookie.getValue();
-        authentication(token);
+        User user;
+        try {
+            user = userFacade.findCachedUserByCode(userCode);
+        } catch (NoSuchUserException e) {
+            return false;
+        }
+        AuthDetails authDetails = new AuthDetails(user);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(authDetails, null, authDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return true;
     }
 
-    private void refreshTokenCheck(HttpServletRequest req, HttpServletResponse res) {
+    private void refreshTokenCheck(HttpServletRequest req, HttpServletResponse res, boolean hasTokenCookie) {
         Cookie refreshTokenCookie = cookieProvider.findCookie(req, REFRESH_TOKEN_COOKIE_NAME);
         // 엑세스 토큰 인증에 실패했으면서 리프레시 토큰도 없으면 인증 실패
         if (refreshTokenCookie == null) {
-            res.addHeader(HttpHeaders.SET_COOKIE, cookieProvider.createCookie(TOKEN_COOKIE_NAME, "", 0).toString());
+            if (hasTokenCookie) {
+                res.addHeader(HttpHeaders.SET_COOKIE, cookieProvider.createCookie(TOKEN_COOKIE_NAME, "", 0).toString());
+            }
             return;
         }
-        try {
-            String refreshToken = jwtUtil.getRefreshToken(refreshTokenCookie.getValue());
-            // DB에서 사용할 수 있는지 확인
-            User user = userFacade.findByRefreshToken(refreshToken);
-            // 새 엑세스 토큰 발급
-            String newToken = jwtUtil.createAccessToken(user);
-            // 쿠키 생성 및 적용
-            ResponseCookie newTokenCookie = cookieProvider.createCookie(TOKEN_COOKIE_NAME, newToken, JWT_TOKEN_MAX_TIME);
-            res.addHeader(HttpHeaders.SET_COOKIE, newTokenCookie.toString());
-
-            authentication(newToken);
-        } catch (Exception e) {
-            e.printStackTrace();
+        String refreshToken = jwtUtil.getRefreshTokenOrNull(refreshTokenCookie.getValue());
+        // 사용할 수 있는 리프레시 토큰인지 확인
+        Long userCode = refreshToken == null ? null : refreshTokenFacade.findUserCodeOrNull(refreshToken);
+        User user = userCode == null ? null : userFacade.findByCodeOrNull(userCode);
+        // 리프레시 토큰도 사용할 수 없으면 쿠키를 지우고 비로그인 상태로 처리
+        if (user == null) {
             res.addHeader(HttpHeaders.SET_COOKIE, cookieProvider.createCookie(REFRESH_TOKEN_COOKIE_NAME, "", 0).toString());
             res.addHeader(HttpHeaders.SET_COOKIE, cookieProvider.createCookie(TOKEN_COOKIE_NAME, "", 0).toString());
-            throw new UnAuthorizedException("다시 로그인 해주세요");
+            return;
         }
+        // 새 엑세스 토큰 발급
+        String newToken = jwtUtil.createAccessToken(user);
+        // 쿠키 생성 및 적용
+        ResponseCookie newTokenCookie = cookieProvider.createCookie(TOKEN_COOKIE_NAME, newToken, JWT_TOKEN_MAX_TIME);
+        res.addHeader(HttpHeaders.SET_COOKIE, newTokenCookie.toString());
+
+        authentication(newToken);
     }
 
 }
-
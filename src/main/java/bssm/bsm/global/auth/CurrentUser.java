@@ -3,6 +3,7 @@ package bssm.bsm.global.auth;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.user.facade.UserFacade;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -13,14 +14,16 @@ public class CurrentUser {
     private final UserFacade userFacade;
 
     public User getUser() {
-        String userCode = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userFacade.findCachedUserByCode(Long.parseLong(userCode));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 인증 필터에서 이미 조회한 유저를 재사용
+        if (authentication.getPrincipal() instanceof AuthDetails authDetails) return authDetails.getUser();
+        return userFacade.findCachedUserByCode(Long.parseLong(authentication.getName()));
     }
 
     public User getUserOrNull() {
-        String userCode = SecurityContextHolder.getContext().getAuthentication().getName();
-        if (userCode.equals("anonymousUser")) return null;
-        return userFacade.findCachedUserByCode(Long.parseLong(userCode));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthDetails authDetails) return authDetails.getUser();
+        return null;
     }
 
 }
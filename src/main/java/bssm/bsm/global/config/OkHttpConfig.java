@@ -1,38 +1,17 @@
 package bssm.bsm.global.config;
 
-import okhttp3.Cookie;
-import okhttp3.CookieJar;
-import okhttp3.HttpUrl;
+import bssm.bsm.global.utils.HostCookieJar;
 import okhttp3.OkHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-
 @Configuration
 class OkHttpConfig {
 
     @Bean("okHttpClient")
     public OkHttpClient okHttpClient() {
-        CookieJar cookieJar = new CookieJar() {
-            private final HashMap<String, List<Cookie>> cookieStore = new HashMap<>();
-
-            @Override
-            public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
-                cookieStore.put(url.host(), cookies);
-            }
-
-            @Override
-            public List<Cookie> loadForRequest(HttpUrl url) {
-                List<Cookie> cookies = cookieStore.get(url.host());
-                return cookies != null ? cookies : new ArrayList<Cookie>();
-            }
-        };
-
         return new OkHttpClient.Builder()
-                .cookieJar(cookieJar)
+                .cookieJar(new HostCookieJar())
                 .build();
     }
-}
\ No newline at end of file
+}
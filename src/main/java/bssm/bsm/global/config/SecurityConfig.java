@@ -66,6 +66,8 @@ public class SecurityConfig {
                 .authorizeRequests()
                 .antMatchers(HttpMethod.POST, "/auth/oauth/bsm").permitAll()
                 .antMatchers("/admin/**").hasAuthority("ADMIN")
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasAuthority("ADMIN")
                 .antMatchers(HttpMethod.GET, "/meal/*", "/timetable/*/*", "/banner").permitAll()
                 .antMatchers(HttpMethod.POST, "/meister/detail").authenticated()
                 .antMatchers(HttpMethod.GET, "/meister/ranking/*").authenticated()
@@ -0,0 +1,42 @@
+package bssm.bsm.global.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+public class CountBuffer<K> {
+
+    private final Map<K, Long> countMap = new ConcurrentHashMap<>();
+
+    public long increase(K key) {
+        return countMap.merge(key, 1L, Long::sum);
+    }
+
+    public long get(K key) {
+        return countMap.getOrDefault(key, 0L);
+    }
+
+    public void flush(BiConsumer<K, Long> consumer) {
+        Map<K, Long> drainedMap = drain();
+        try {
+            drainedMap.forEach(consumer);
+        } catch (RuntimeException e) {
+            // 반영에 실패한 카운트는 다음 flush 때 다시 시도
+            drainedMap.forEach((key, count) -> countMap.merge(key, count, Long::sum));
+            throw e;
+        }
+    }
+
+    private Map<K, Long> drain() {
+        Map<K, Long> drainedMap = new HashMap<>();
+        // remove로 꺼내야 꺼내는 도중 들어온 카운트가 유실되지 않음
+        countMap.keySet().forEach(key -> {
+            Long count = countMap.remove(key);
+            if (count != null) {
+                drainedMap.put(key, count);
+            }
+        });
+        return drainedMap;
+    }
+}
@@ -0,0 +1,18 @@
+package bssm.bsm.global.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.DoubleType;
+
+// MySQL FULLTEXT 검색용 MATCH ... AGAINST 함수 등록
+public class MatchFunctionContributor implements MetadataBuilderContributor {
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction("match_against",
+                new SQLFunctionTemplate(DoubleType.INSTANCE, "match (?1) against (?2 in boolean mode)"));
+        metadataBuilder.applySqlFunction("match_against_title_content",
+                new SQLFunctionTemplate(DoubleType.INSTANCE, "match (?1, ?2) against (?3 in boolean mode)"));
+    }
+}
@@ -4,16 +4,26 @@ import bssm.bsm.domain.auth.domain.RefreshToken;
 import bssm.bsm.domain.user.domain.User;
 import bssm.bsm.domain.auth.domain.repository.RefreshTokenRepository;
 import bssm.bsm.domain.user.facade.UserFacade;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HexFormat;
 
@@ -23,6 +33,7 @@ public class JwtProvider {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserFacade userFacade;
+    private final MeterRegistry meterRegistry;
 
     @Value("${env.jwt.secretKey}")
     private String JWT_SECRET_KEY;
@@ -31,6 +42,28 @@ public class JwtProvider {
     @Value("${env.jwt.time.refreshToken}")
     private long JWT_REFRESH_TOKEN_MAX_TIME;
 
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Timer verifyTimer;
+    private Counter verifiedTokenCacheHitCounter;
+    private Counter verifiedTokenCacheMissCounter;
+    // 서명 검증을 마친 엑세스 토큰, 만료 시간은 값에 따로 저장
+    private final Cache<String, VerifiedToken> verifiedTokenCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    @PostConstruct
+    private void init() {
+        secretKey = Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        verifyTimer = Timer.builder("jwt.verify").register(meterRegistry);
+        verifiedTokenCacheHitCounter = Counter.builder("jwt.verify.cache").tag("result", "hit").register(meterRegistry);
+        verifiedTokenCacheMissCounter = Counter.builder("jwt.verify.cache").tag("result", "miss").register(meterRegistry);
+    }
+
     public String createAccessToken(User user) {
         userFacade.saveUserCache(user);
 
@@ -64,25 +97,42 @@ public class JwtProvider {
                 .setClaims(claims)
                 .setIssuedAt(date)
                 .setExpiration(new Date(date.getTime() + (time * 1000)))
-                .signWith(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getRefreshToken(String token) {
-        Claims claims = extractAllClaims(token);
+    public String getRefreshTokenOrNull(String token) {
+        Claims claims = extractAllClaimsOrNull(token);
+        if (claims == null) return null;
         return claims.get("token", String.class);
     }
 
-    public Long getUserCode(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("code", Long.class);
+    public Long getUserCodeOrNull(String token) {
+        VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(token);
+        if (verifiedToken != null && verifiedToken.expiresAt() > System.currentTimeMillis()) {
+            verifiedTokenCacheHitCounter.increment();
+            return verifiedToken.userCode();
+        }
+        verifiedTokenCacheMissCounter.increment();
+
+        Claims claims = verifyTimer.record(() -> extractAllClaimsOrNull(token));
+        if (claims == null) return null;
+        Long userCode = claims.get("code", Long.class);
+        if (userCode != null) {
+            verifiedTokenCache.put(token, new VerifiedToken(userCode, claims.getExpiration().getTime()));
+        }
+        return userCode;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(JWT_SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 만료되었거나 위조된 토큰이면 null
+    private Claims extractAllClaimsOrNull(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
+
+    private record VerifiedToken(long userCode, long expiresAt) {}
 }
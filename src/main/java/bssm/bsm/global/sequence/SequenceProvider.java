@@ -0,0 +1,74 @@
+package bssm.bsm.global.sequence;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+@Component
+@RequiredArgsConstructor
+public class SequenceProvider {
+
+    private static final String SEQUENCE_KEY_PREFIX = "sequence:";
+    private static final long MISSING_KEY = -1;
+    // 키가 없으면 INCR 하지 않고 -1을 반환, 만료 시간이 있으면 사용할 때마다 연장
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local next = redis.call('INCR', KEYS[1]) " +
+            "if tonumber(ARGV[1]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return next",
+            Long.class);
+    // 저장된 값이 DB의 마지막 id보다 작을 때만 덮어쓴 뒤 INCR
+    private static final RedisScript<Long> RECONCILE_AND_NEXT_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "local next = redis.call('INCR', KEYS[1]) " +
+            "if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return next",
+            Long.class);
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "return current",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    // 현재 서버에서 최근에 DB와 맞춰본 시퀀스 목록, 오래 쓰지 않은 시퀀스는 다시 맞춤
+    private final Cache<String, Boolean> reconciledKeys = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public long next(String name, LongSupplier lastIdSupplier) {
+        return next(name, Duration.ZERO, lastIdSupplier);
+    }
+
+    // ttl이 지나 키가 사라지면 다음 요청에서 DB의 마지막 id로 다시 맞추므로 id가 중복되지 않음
+    public long next(String name, Duration ttl, LongSupplier lastIdSupplier) {
+        String key = SEQUENCE_KEY_PREFIX + name;
+        String ttlSeconds = String.valueOf(ttl.toSeconds());
+        if (reconciledKeys.getIfPresent(key) != null) {
+            long next = Objects.requireNonNull(redisTemplate.execute(NEXT_SCRIPT, List.of(key), ttlSeconds));
+            if (next != MISSING_KEY) return next;
+        }
+        long next = Objects.requireNonNull(redisTemplate.execute(
+                RECONCILE_AND_NEXT_SCRIPT, List.of(key), String.valueOf(lastIdSupplier.getAsLong()), ttlSeconds));
+        reconciledKeys.put(key, true);
+        return next;
+    }
+
+    public void reconcile(String name, long lastId) {
+        String key = SEQUENCE_KEY_PREFIX + name;
+        redisTemplate.execute(RECONCILE_SCRIPT, List.of(key), String.valueOf(lastId));
+        reconciledKeys.put(key, true);
+    }
+
+}
@@ -0,0 +1,25 @@
+package bssm.bsm.global.utils;
+
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 호스트별로 마지막으로 받은 쿠키를 저장, 여러 스레드에서 동시에 사용 가능
+public class HostCookieJar implements CookieJar {
+
+    private final Map<String, List<Cookie>> cookieStore = new ConcurrentHashMap<>();
+
+    @Override
+    public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+        cookieStore.put(url.host(), List.copyOf(cookies));
+    }
+
+    @Override
+    public List<Cookie> loadForRequest(HttpUrl url) {
+        return cookieStore.getOrDefault(url.host(), List.of());
+    }
+}